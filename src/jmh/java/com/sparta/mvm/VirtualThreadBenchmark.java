@@ -0,0 +1,78 @@
+package com.sparta.mvm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 요청 처리 방식 비교 (./gradlew jmh -Pjmh.includes=VirtualThreadBenchmark)
+// 동시 요청 concurrency 개가 각각 DB 왕복(dbLatencyMs)만큼 대기하는 상황에서 모두 끝날 때까지 걸리는 시간
+// platform : Tomcat 기본값과 같은 200개 플랫폼 스레드 풀, virtual : 요청마다 가상 스레드
+// 실제 DB 대신 sleep 으로 대기를 흉내 내므로 커넥션 풀 한도는 반영하지 않음 (가상 스레드에서는 풀 크기가 새 한도가 됨)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"200", "2000", "10000"})
+    public int concurrency;
+
+    @Param({"10"})
+    public long dbLatencyMs;
+
+    private ExecutorService platform;
+    private ExecutorService virtual;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        platform = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        virtual = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platform.shutdownNow();
+        virtual.shutdownNow();
+    }
+
+    @Benchmark
+    public long platform() throws Exception {
+        return run(platform);
+    }
+
+    @Benchmark
+    public long virtual() throws Exception {
+        return run(virtual);
+    }
+
+    private long run(ExecutorService executor) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long request = i;
+            futures.add(executor.submit(() -> {
+                Thread.sleep(dbLatencyMs);
+                return request;
+            }));
+        }
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.mvm.jwt;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터가 요청 하나에서 하는 토큰 검증 비용 비교 (./gradlew jmh)
+// before : 요청마다 파서를 새로 만들어 리프레시 토큰 1번, 액세스 토큰 2번 서명 검증
+// after  : 재사용하는 파서 + 검증 결과 캐시로 리프레시/액세스 토큰 각 1번 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private HttpServletRequest request;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY));
+        jwtUtil = new JwtUtil(SECRET_KEY, 10_000, Clock.systemDefaultZone());
+        // validToken 은 실패 시에만 요청 속성을 쓰므로 빈 요청으로 충분
+        request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> null);
+
+        User user = new User("user1", "password", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        accessToken = jwtUtil.substringToken(jwtUtil.createAccessToken(user));
+        refreshToken = jwtUtil.substringToken(jwtUtil.createRefreshToken(user));
+    }
+
+    @Benchmark
+    public Claims before() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public Claims after() {
+        jwtUtil.validToken(refreshToken, JwtTokenType.REFRESH_TOKEN, request);
+        return jwtUtil.validToken(accessToken, JwtTokenType.ACCESS_TOKEN, request);
+    }
+}
@@ -0,0 +1,181 @@
+package com.sparta.mvm.cache;
+
+import com.sparta.mvm.repository.StreamingQueries;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글/댓글 ID 별로 좋아요를 누른 사용자 ID 를 압축 비트맵(Roaring)으로 보관하는 인덱스.
+ * 뉴스피드의 likedByMe 표시를 항목마다 DB 조회하지 않고 메모리 조회로 처리한다.
+ * Roaring64Bitmap 은 스레드 안전하지 않으므로 비트맵 단위로 synchronized 하여 접근한다.
+ */
+@Slf4j(topic = "LikedByMeIndex")
+@Component
+public class LikedByMeIndex implements MeterBinder {
+    private static final String LOAD_SQL = "select user_id, post_id, comment_id from likes";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Long, Roaring64Bitmap> postLikers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Roaring64Bitmap> commentLikers = new ConcurrentHashMap<>();
+    // 로딩 도중 들어온 변경 : 로딩이 끝나면 순서대로 다시 적용해 로딩 결과가 덮어쓴 값을 바로잡음
+    private final Object journalLock = new Object();
+    private List<Runnable> journal;
+    private volatile boolean loaded;
+
+    public LikedByMeIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 서버 기동 시 likes 테이블 전체를 읽어 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (journalLock) {
+            journal = new ArrayList<>();
+        }
+        JdbcTemplate streaming = StreamingQueries.jdbcTemplate(jdbcTemplate);
+        long[] rows = new long[1];
+        streaming.query(LOAD_SQL, rs -> {
+            long userId = rs.getLong("user_id");
+            long postId = rs.getLong("post_id");
+            if (!rs.wasNull()) {
+                add(postLikers, postId, userId);
+            }
+            long commentId = rs.getLong("comment_id");
+            if (!rs.wasNull()) {
+                add(commentLikers, commentId, userId);
+            }
+            rows[0]++;
+        });
+        synchronized (journalLock) {
+            journal.forEach(Runnable::run);
+            journal = null;
+        }
+        postLikers.values().forEach(LikedByMeIndex::runOptimize);
+        commentLikers.values().forEach(LikedByMeIndex::runOptimize);
+        loaded = true;
+        log.info("좋아요 인덱스 로딩 완료 : {} 건, {} bytes", rows[0], getSizeInBytes());
+    }
+
+    public boolean isPostLikedBy(Long postId, long userId) {
+        return contains(postLikers, postId, userId);
+    }
+
+    public boolean isCommentLikedBy(Long commentId, long userId) {
+        return contains(commentLikers, commentId, userId);
+    }
+
+    public void addPostLike(Long postId, long userId) {
+        apply(() -> add(postLikers, postId, userId));
+    }
+
+    public void removePostLike(Long postId, long userId) {
+        apply(() -> remove(postLikers, postId, userId));
+    }
+
+    public void addCommentLike(Long commentId, long userId) {
+        apply(() -> add(commentLikers, commentId, userId));
+    }
+
+    public void removeCommentLike(Long commentId, long userId) {
+        apply(() -> remove(commentLikers, commentId, userId));
+    }
+
+    // 게시글/댓글 삭제 시 비트맵 통째로 제거
+    public void removePost(Long postId) {
+        apply(() -> postLikers.remove(postId));
+    }
+
+    public void removeComment(Long commentId) {
+        apply(() -> commentLikers.remove(commentId));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getTargetCount() {
+        return postLikers.size() + commentLikers.size();
+    }
+
+    // 비트맵이 차지하는 메모리 (맵 엔트리 자체의 크기는 제외)
+    public long getSizeInBytes() {
+        return sizeInBytes(postLikers) + sizeInBytes(commentLikers);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("likes.index.size", this, LikedByMeIndex::getSizeInBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("likes.index.targets", this, LikedByMeIndex::getTargetCount)
+                .register(registry);
+    }
+
+    private void apply(Runnable change) {
+        synchronized (journalLock) {
+            if (journal != null) {
+                journal.add(change);
+                change.run();
+                return;
+            }
+        }
+        change.run();
+    }
+
+    private static void add(ConcurrentHashMap<Long, Roaring64Bitmap> likers, Long targetId, long userId) {
+        likers.compute(targetId, (id, bitmap) -> {
+            Roaring64Bitmap target = bitmap != null ? bitmap : new Roaring64Bitmap();
+            synchronized (target) {
+                target.addLong(userId);
+            }
+            return target;
+        });
+    }
+
+    // 마지막 사용자가 빠지면 빈 비트맵은 맵에서 제거
+    private static void remove(ConcurrentHashMap<Long, Roaring64Bitmap> likers, Long targetId, long userId) {
+        likers.computeIfPresent(targetId, (id, bitmap) -> {
+            synchronized (bitmap) {
+                bitmap.removeLong(userId);
+                return bitmap.isEmpty() ? null : bitmap;
+            }
+        });
+    }
+
+    private static boolean contains(ConcurrentHashMap<Long, Roaring64Bitmap> likers, Long targetId, long userId) {
+        Roaring64Bitmap bitmap = likers.get(targetId);
+        if (bitmap == null) {
+            return false;
+        }
+        synchronized (bitmap) {
+            return bitmap.contains(userId);
+        }
+    }
+
+    private static void runOptimize(Roaring64Bitmap bitmap) {
+        synchronized (bitmap) {
+            bitmap.runOptimize();
+        }
+    }
+
+    private static long sizeInBytes(ConcurrentHashMap<Long, Roaring64Bitmap> likers) {
+        long bytes = 0;
+        for (Roaring64Bitmap bitmap : likers.values()) {
+            synchronized (bitmap) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+        }
+        return bytes;
+    }
+}
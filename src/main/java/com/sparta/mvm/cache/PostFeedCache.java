@@ -0,0 +1,232 @@
+package com.sparta.mvm.cache;
+
+import com.sparta.mvm.dto.PostCursor;
+import com.sparta.mvm.dto.PostPageResponseDto;
+import com.sparta.mvm.dto.PostResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 최신 게시글 N개를 작성 시점에 만들어 둔 응답 DTO 그대로 보관하는 뉴스피드 캐시.
+ * 읽기는 불변 스냅샷을 그대로 읽고, 쓰기는 새 스냅샷을 만들어 CAS 로 교체하므로 락이 없다.
+ * 삭제로 캐시가 줄어들면 남은 게시글은 여전히 최신순 앞부분이므로 그대로 쓰고, 요청한 페이지보다 작아지면 refill 로 다시 채운다.
+ */
+@Slf4j(topic = "PostFeedCache")
+@Component
+public class PostFeedCache implements MeterBinder {
+    private static final int WARM_UP_ATTEMPTS = 3;
+    // 최신순 : id desc (뉴스피드 쿼리와 동일한 정렬)
+    private static final Comparator<PostResponseDto> NEWEST_FIRST = Comparator
+            .comparing(PostResponseDto::getId)
+            .reversed();
+
+    private final int capacity;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.COLD);
+    // 캐시 워밍 도중 발생한 쓰기를 감지하기 위한 카운터
+    private final AtomicLong writes = new AtomicLong();
+    // 다시 채우는 중이면 다른 요청은 기다리지 않고 DB 에서 조회
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PostFeedCache(@Value("${feed.cache.capacity:200}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("feed.cache.capacity 는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 첫 페이지 조회 : 캐시로 응답할 수 없으면 null
+    public PostPageResponseDto firstPage(int limit) {
+        Snapshot current = snapshot.get();
+        PostResponseDto[] items = current.items;
+        boolean servable = current.warmed && (items.length >= limit || current.complete);
+        if (!servable) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+
+        int size = Math.min(limit, items.length);
+        List<PostResponseDto> newsFeed = List.of(Arrays.copyOf(items, size));
+        boolean hasNext = items.length > limit || !current.complete;
+        String nextCursor = hasNext && size > 0 ? PostCursor.of(newsFeed.get(size - 1)).encode() : null;
+        return new PostPageResponseDto(newsFeed, nextCursor);
+    }
+
+    /**
+     * DB 에서 최신 게시글을 읽어 캐시를 채운다.
+     * loader 는 capacity + 1 개까지 읽어야 전체 게시글이 캐시에 들어왔는지 판단할 수 있다.
+     */
+    public boolean warm(Supplier<List<PostResponseDto>> loader) {
+        for (int attempt = 1; attempt <= WARM_UP_ATTEMPTS; attempt++) {
+            long before = writes.get();
+            List<PostResponseDto> loaded = loader.get();
+            boolean complete = loaded.size() <= capacity;
+            PostResponseDto[] items = loaded.stream()
+                    .sorted(NEWEST_FIRST)
+                    .limit(capacity)
+                    .toArray(PostResponseDto[]::new);
+            Snapshot warmed = new Snapshot(items, complete, true);
+            snapshot.set(warmed);
+            if (writes.get() == before) {
+                log.info("뉴스피드 캐시 워밍 완료 : {} 건 (전체 여부 : {})", items.length, complete);
+                return true;
+            }
+            // 조회 도중 쓰기가 있었으면 누락됐을 수 있으므로 다시 읽는다
+            snapshot.compareAndSet(warmed, Snapshot.COLD);
+        }
+        log.warn("뉴스피드 캐시 워밍 실패 : 쓰기가 계속 발생하여 DB 조회로 응답합니다.");
+        return false;
+    }
+
+    /**
+     * 첫 페이지 조회가 캐시 미스일 때 호출 : 삭제로 줄었거나 워밍에 실패해 DB 보다 적게 들고 있으면 다시 채운다.
+     * 다시 채웠으면 true 를 돌려주므로 호출한 쪽은 firstPage 를 한 번 더 조회한다.
+     */
+    public boolean refill(Supplier<List<PostResponseDto>> loader) {
+        Snapshot current = snapshot.get();
+        if (current.complete || current.items.length >= capacity || !refilling.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            return warm(loader);
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    // 게시글 등록 : 정렬된 위치에 끼워 넣음 (보통 가장 최신이므로 맨 앞)
+    public void add(PostResponseDto post) {
+        writes.incrementAndGet();
+        snapshot.updateAndGet(current -> current.with(post, capacity));
+    }
+
+    // 게시글 수정 : 캐시에 들어있는 게시글만 교체
+    public void replace(PostResponseDto post) {
+        writes.incrementAndGet();
+        snapshot.updateAndGet(current -> current.replacing(post));
+    }
+
+    // 좋아요 수 반영 : DB 에 반영된 증감분을 캐시된 DTO 에도 적용
+    public void addLikeCount(Long postId, long delta) {
+        snapshot.updateAndGet(current -> current.withLikeDelta(postId, delta));
+    }
+
+    // 게시글 삭제
+    public void remove(Long postId) {
+        writes.incrementAndGet();
+        snapshot.updateAndGet(current -> current.without(postId));
+    }
+
+    public int size() {
+        return snapshot.get().items.length;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("feed.cache.requests", this, PostFeedCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("feed.cache.requests", this, PostFeedCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("feed.cache.size", this, PostFeedCache::size)
+                .register(registry);
+    }
+
+    private static final class Snapshot {
+        static final Snapshot COLD = new Snapshot(new PostResponseDto[0], false, false);
+
+        // 최신순 정렬
+        final PostResponseDto[] items;
+        // DB 의 모든 게시글이 캐시에 들어있는지 여부
+        final boolean complete;
+        final boolean warmed;
+
+        Snapshot(PostResponseDto[] items, boolean complete, boolean warmed) {
+            this.items = items;
+            this.complete = complete;
+            this.warmed = warmed;
+        }
+
+        Snapshot with(PostResponseDto post, int capacity) {
+            if (!warmed) {
+                return this;
+            }
+            PostResponseDto[] base = without(post.getId()).items;
+            int index = Arrays.binarySearch(base, post, NEWEST_FIRST);
+            int position = index >= 0 ? index : -index - 1;
+            if (position >= capacity) {
+                // 캐시 범위보다 오래된 게시글
+                return complete ? new Snapshot(base, false, true) : this;
+            }
+            int size = Math.min(base.length + 1, capacity);
+            PostResponseDto[] next = new PostResponseDto[size];
+            System.arraycopy(base, 0, next, 0, position);
+            next[position] = post;
+            System.arraycopy(base, position, next, position + 1, size - position - 1);
+            boolean stillComplete = complete && base.length + 1 <= capacity;
+            return new Snapshot(next, stillComplete, true);
+        }
+
+        Snapshot replacing(PostResponseDto post) {
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].getId().equals(post.getId())) {
+                    PostResponseDto[] next = items.clone();
+                    next[i] = post;
+                    return new Snapshot(next, complete, true);
+                }
+            }
+            // 캐시 범위 밖의 오래된 게시글 수정은 무시
+            return this;
+        }
+
+        Snapshot withLikeDelta(Long postId, long delta) {
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].getId().equals(postId)) {
+                    PostResponseDto[] next = items.clone();
+                    next[i] = items[i].toBuilder().likeCount(items[i].getLikeCount() + delta).build();
+                    return new Snapshot(next, complete, true);
+                }
+            }
+            return this;
+        }
+
+        Snapshot without(Long postId) {
+            if (!warmed) {
+                return this;
+            }
+            PostResponseDto[] next = Arrays.stream(items)
+                    .filter(item -> !item.getId().equals(postId))
+                    .toArray(PostResponseDto[]::new);
+            return next.length == items.length ? this : new Snapshot(next, complete, true);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.mvm.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 GET(ETag) 응답용 리소스 버전.
+ * 쓰기 경로에서 커밋 후 버전을 올려 두므로, 읽기 요청은 DB 조회 없이 클라이언트가 가진 버전과 비교할 수 있다.
+ * 기록되지 않은 ID 는 기본 버전(서버 기동 시점 또는 마지막으로 기록을 비운 시점)을 사용하고,
+ * 기록이 max-tracked 를 넘으면 비우면서 기본 버전을 현재 버전으로 올린다. 일부 클라이언트가 한 번 더 200 을 받을 뿐 잘못된 304 는 없다.
+ * 버전은 서버 메모리에만 있으므로 다른 서버의 쓰기는 알 수 없어 서버 한 대 기준이다.
+ * ETag 에 기동 시각을 넣어 재시작한 뒤나 다른 서버가 만든 ETag 는 일치하지 않게 하고,
+ * 서버마다 다른 시각이 되는 Last-Modified 는 내보내지 않는다.
+ */
+@Component
+public class ResourceVersions {
+    private final int maxTracked;
+    private final long bootEpoch;
+    private final AtomicLong counter = new AtomicLong();
+
+    private volatile Version feed;
+    private volatile Version comments;
+    private final Tracked posts;
+    private final Tracked profiles;
+
+    public ResourceVersions(Clock clock, @Value("${http.versions.max-tracked:100000}") int maxTracked) {
+        this.maxTracked = maxTracked;
+        this.bootEpoch = clock.millis();
+        Version initial = new Version(0);
+        this.feed = initial;
+        this.comments = initial;
+        this.posts = new Tracked(initial);
+        this.profiles = new Tracked(initial);
+    }
+
+    public Version feed() {
+        return feed;
+    }
+
+    public Version comments() {
+        return comments;
+    }
+
+    public Version post(Long postId) {
+        return posts.get(postId);
+    }
+
+    public Version profile(Long userId) {
+        return profiles.get(userId);
+    }
+
+    // 게시글 등록/수정/삭제, 좋아요 : 게시글과 뉴스피드 버전을 함께 올림
+    public void postChanged(Long postId) {
+        Version next = next();
+        posts.put(postId, next);
+        feed = next;
+    }
+
+    public void commentsChanged() {
+        comments = next();
+    }
+
+    public void profileChanged(Long userId) {
+        profiles.put(userId, next());
+    }
+
+    // 사용자마다 응답(likedByMe)이 다른 리소스는 사용자 ID 를 넣어 다른 사용자의 ETag 와 구분
+    public String etag(String resource, Version version, Long userId) {
+        String tag = resource + "-" + bootEpoch + "-" + version.stamp;
+        return "W/\"" + (userId == null ? tag : tag + "-u" + userId) + "\"";
+    }
+
+    private Version next() {
+        return new Version(counter.incrementAndGet());
+    }
+
+    public static final class Version {
+        private final long stamp;
+
+        Version(long stamp) {
+            this.stamp = stamp;
+        }
+
+        public long getStamp() {
+            return stamp;
+        }
+    }
+
+    private final class Tracked {
+        private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+        private volatile Version base;
+
+        Tracked(Version base) {
+            this.base = base;
+        }
+
+        Version get(Long id) {
+            Version version = versions.get(id);
+            return version != null ? version : base;
+        }
+
+        void put(Long id, Version version) {
+            if (versions.size() >= maxTracked) {
+                // 기본 버전을 먼저 올려야 비우는 도중 조회한 ID 도 이전 버전으로 보이지 않음
+                base = new Version(counter.get());
+                versions.clear();
+            }
+            versions.put(id, version);
+        }
+    }
+}
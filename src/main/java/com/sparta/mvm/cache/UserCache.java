@@ -0,0 +1,69 @@
+package com.sparta.mvm.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 요청마다 반복되는 사용자 조회(username, id)를 메모리에서 처리하는 캐시.
+ * 크기(max-size)와 TTL 로 비우며, 사용자 정보가 바뀌는 곳(프로필 수정, 탈퇴)에서 커밋 후 직접 무효화한다.
+ * 캐시된 User 는 여러 요청이 함께 읽는 분리된(detached) 엔티티이므로 값을 바꾸는 곳에서는 사용하지 않는다.
+ * 없는 사용자는 캐시하지 않는다.
+ */
+@Component
+public class UserCache implements MeterBinder {
+    private final UserRepository userRepository;
+    private final Cache<String, User> byUsername;
+    private final Cache<Long, User> byId;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byUsername = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.byId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    }
+
+    // DB 에서 읽어 온 사용자는 다른 키의 캐시에도 넣어 둠
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(byUsername.get(username, key -> {
+            User user = userRepository.findByUsername(key).orElse(null);
+            if (user != null) {
+                byId.put(user.getId(), user);
+            }
+            return user;
+        }));
+    }
+
+    public Optional<User> findById(Long userId) {
+        return Optional.ofNullable(byId.get(userId, key -> {
+            User user = userRepository.findById(key).orElse(null);
+            if (user != null) {
+                byUsername.put(user.getUsername(), user);
+            }
+            return user;
+        }));
+    }
+
+    public void invalidate(User user) {
+        byUsername.invalidate(user.getUsername());
+        if (user.getId() != null) {
+            byId.invalidate(user.getId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byUsername, "users.by-username");
+        CaffeineCacheMetrics.monitor(registry, byId, "users.by-id");
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparta.mvm.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+// 현재 시각은 Clock 빈으로 주입받아 테스트에서 고정된 시각을 사용할 수 있게 함
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
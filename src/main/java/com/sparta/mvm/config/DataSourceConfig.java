@@ -0,0 +1,71 @@
+package com.sparta.mvm.config;
+
+import com.sparta.mvm.datasource.ReadWriteRoutingDataSource;
+import com.sparta.mvm.datasource.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// primary 는 spring.datasource.*, replica 는 datasource.replica.urls (쉼표 구분, 비어 있으면 모든 쿼리가 primary 로 감)
+// replica 는 primary 와 같은 계정과 spring.datasource.hikari.* 설정을 사용하고, 풀마다 이름(primary, replica-N)을 붙여 hikaricp.* 지표를 나눠 봄
+@Configuration
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties, Environment environment, Clock clock,
+                                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                                        @Value("${datasource.replica.urls:}") List<String> replicaUrls,
+                                                        @Value("${datasource.replica.retry-after:30s}") Duration retryAfter,
+                                                        @Value("${datasource.read-your-writes.window:5s}") Duration window,
+                                                        @Value("${datasource.read-your-writes.max-tracked:100000}") int maxTracked) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Binder binder = Binder.get(environment);
+        DataSource primary = pool(properties, binder, properties.determineUrl(), "primary", false, registry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!url.isBlank()) {
+                replicas.add(pool(properties, binder, url.trim(), "replica-" + replicas.size(), true, registry));
+            }
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, new ReadYourWrites(clock, window, maxTracked), clock, retryAfter);
+    }
+
+    // JPA 는 트랜잭션 시작 시 커넥션을 가져오므로, readOnly 여부가 정해진 첫 쿼리 시점까지 미룸
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, Binder binder, String url, String name, boolean readOnly,
+                                  MeterRegistry registry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        // 직접 만든 풀에는 자동 설정의 바인딩이 적용되지 않으므로 spring.datasource.hikari.* 를 직접 바인딩
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setReadOnly(readOnly);
+        if (registry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return pool;
+    }
+}
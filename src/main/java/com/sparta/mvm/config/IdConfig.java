@@ -0,0 +1,16 @@
+package com.sparta.mvm.config;
+
+import com.sparta.mvm.id.Snowflake;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// JDBC 로 직접 INSERT 하는 곳에서도 엔티티와 같은 ID 생성기를 사용
+@Configuration
+public class IdConfig {
+
+    @Bean
+    public Snowflake snowflake(@Value("${mvm.snowflake.node-id}") int nodeId) {
+        return Snowflake.forNode(nodeId);
+    }
+}
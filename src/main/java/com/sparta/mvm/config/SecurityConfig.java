@@ -1,15 +1,15 @@
 package com.sparta.mvm.config;
 
 import com.sparta.mvm.jwt.JwtAuthenticationEntryPoint;
-import com.sparta.mvm.jwt.JwtAuthenticationFilter;
 import com.sparta.mvm.jwt.JwtAuthorizationFilter;
 import com.sparta.mvm.jwt.JwtUtil;
+import com.sparta.mvm.security.TokenDenyList;
 import com.sparta.mvm.security.UserDetailsServiceImpl;
 import com.sparta.mvm.service.AuthService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -22,33 +22,23 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
-    private final AuthenticationConfiguration authenticationConfiguration;
     private final AuthService authService;
+    private final TokenDenyList tokenDenyList;
+    private final boolean stateless;
 
-    public SecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration
-            , AuthService authService) {
+    // 로그인은 UserController 의 비동기 엔드포인트에서 처리 (비밀번호 검증을 PasswordHasher 풀로 넘기기 위해)
+    public SecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService
+            , AuthService authService, TokenDenyList tokenDenyList, @Value("${jwt.stateless:true}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
-        this.authenticationConfiguration = authenticationConfiguration;
         this.authService = authService;
-    }
-
-
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
-    }
-
-    @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(authService);
-        filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
-        return filter;
+        this.tokenDenyList = tokenDenyList;
+        this.stateless = stateless;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, authService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, authService, tokenDenyList, stateless);
     }
 
     @Bean
@@ -63,14 +53,15 @@ public class SecurityConfig {
                 sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         http.authorizeHttpRequests((authorizeHttpRequests) ->
                 authorizeHttpRequests
+                        // 스트리밍 응답 완료 후의 async/error 디스패치는 이미 인증된 요청의 후속 처리
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/users/signup").permitAll()
                         .requestMatchers("/users/login").permitAll()
                         .anyRequest().authenticated()
         );
         http.exceptionHandling((exception)
                 -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint()).accessDeniedPage("/"));
-        http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class);
-        http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(jwtAuthorizationFilter(), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,31 @@
+package com.sparta.mvm.controller;
+
+import com.sparta.mvm.dto.BulkResponseDto;
+import com.sparta.mvm.dto.CommentRequestDto;
+import com.sparta.mvm.dto.PostRequestDto;
+import com.sparta.mvm.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class BulkController {
+
+    private final BulkImportService bulkImportService;
+
+    // 게시글 일괄 등록 : 항목별 검증 결과와 생성된 ID 를 요청 순서대로 응답
+    @PostMapping("/posts/bulk")
+    public ResponseEntity<BulkResponseDto> createPosts(@RequestBody List<PostRequestDto> requests) {
+        return ResponseEntity.ok().body(bulkImportService.importPosts(requests));
+    }
+
+    // 댓글 일괄 등록
+    @PostMapping("/posts/{postId}/comments/bulk")
+    public ResponseEntity<BulkResponseDto> createComments(@PathVariable(name = "postId") long postId,
+                                                          @RequestBody List<CommentRequestDto> requests) {
+        return ResponseEntity.ok().body(bulkImportService.importComments(postId, requests));
+    }
+}
@@ -1,13 +1,22 @@
 package com.sparta.mvm.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.datasource.PrimaryReads;
 import com.sparta.mvm.dto.CommentRequestDto;
 import com.sparta.mvm.dto.CommentResponseDto;
+import com.sparta.mvm.security.UserDetailsImpl;
 import com.sparta.mvm.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -20,6 +29,8 @@ public class CommentController {
     //테스트
     public final CommentService service;
     private final CommentService commentService;
+    private final ResourceVersions resourceVersions;
+    private final ObjectMapper objectMapper;
 
     // 댓글 등록
     @PostMapping("/posts/{postId}/comments")
@@ -30,18 +41,34 @@ public class CommentController {
 
     // 댓글 조회
     @GetMapping("/comments")
-    public ResponseEntity<Map<String, Object>> getAll() {
-        List<CommentResponseDto> newFeed_Comment = service.getAll();
+    public ResponseEntity<Map<String, Object>> getAll(@AuthenticationPrincipal UserDetailsImpl userDetails, WebRequest webRequest) {
+        ResourceVersions.Version version = resourceVersions.comments();
+        Long userId = userDetails == null ? null : userDetails.getUser().getId();
+        if (webRequest.checkNotModified(resourceVersions.etag("comments", version, userId))) {
+            return null;
+        }
+        List<CommentResponseDto> newFeed_Comment = PrimaryReads.call(service::getAll);
         if (newFeed_Comment.isEmpty()) {
             Map<String, Object> response = new HashMap<>();
             response.put("statusCode", HttpStatus.OK.value());
             response.put("msg", "먼저 댓글을 작성해 보세요 📝");
             return ResponseEntity.ok().body(response);
         } else {
-            return ResponseEntity.ok().body(Collections.singletonMap("newFeed_Comment", newFeed_Comment));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(Collections.singletonMap("newFeed_Comment", newFeed_Comment));
         }
     }
 
+    // 댓글 전체 내보내기 : DB 에서 읽는 대로 바로 응답에 씀
+    @GetMapping("/comments/stream")
+    public ResponseEntity<StreamingResponseBody> stream(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Long userId = userDetails == null ? null : userDetails.getUser().getId();
+        StreamingResponseBody body = JsonArrayStreamingBody.<CommentResponseDto>of(objectMapper, "newFeed_Comment",
+                consumer -> commentService.streamAll(userId, consumer));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     // 댓글 수정
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponseDto> update(@PathVariable(name = "commentId") long commentId, @Valid @RequestBody CommentRequestDto request) {
@@ -0,0 +1,42 @@
+package com.sparta.mvm.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// 목록을 메모리에 모으지 않고 {"필드명": [...]} 형태로 한 건씩 바로 내보내는 응답 본문
+final class JsonArrayStreamingBody {
+    // 일정 건수마다 flush 하여 클라이언트가 받는 즉시 처리할 수 있게 함
+    private static final int FLUSH_EVERY = 100;
+
+    private JsonArrayStreamingBody() {
+    }
+
+    static <T> StreamingResponseBody of(ObjectMapper objectMapper, String fieldName, Consumer<Consumer<T>> source) {
+        return out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(fieldName);
+                int[] written = {0};
+                source.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+}
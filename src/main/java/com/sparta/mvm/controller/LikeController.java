@@ -27,6 +27,11 @@ public class LikeController {
         return ResponseEntity.ok().body(likeService.unlikePost(postId));
     }
 
+    @PostMapping("/posts/{postId}/likes/toggle")
+    public ResponseEntity<LikeResponseDto> togglePostLike(@PathVariable long postId) {
+        return ResponseEntity.ok().body(likeService.togglePostLike(postId));
+    }
+
     @PostMapping("/comments/{commentId}/likes")
     public ResponseEntity<LikeResponseDto> likeComment(@PathVariable long commentId) {
         return ResponseEntity.ok().body(likeService.likeComment(commentId));
@@ -36,4 +41,9 @@ public class LikeController {
     public ResponseEntity<LikeResponseDto> unlikeComment(@PathVariable long commentId) {
         return ResponseEntity.ok().body(likeService.unlikeComment(commentId));
     }
+
+    @PostMapping("/comments/{commentId}/likes/toggle")
+    public ResponseEntity<LikeResponseDto> toggleCommentLike(@PathVariable long commentId) {
+        return ResponseEntity.ok().body(likeService.toggleCommentLike(commentId));
+    }
 }
@@ -1,17 +1,26 @@
 package com.sparta.mvm.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.datasource.PrimaryReads;
+import com.sparta.mvm.dto.PostPageResponseDto;
 import com.sparta.mvm.dto.PostRequestDto;
 import com.sparta.mvm.dto.PostResponseDto;
+import com.sparta.mvm.dto.PostSearchResponseDto;
+import com.sparta.mvm.security.UserDetailsImpl;
 import com.sparta.mvm.service.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,6 +28,8 @@ import java.util.Map;
 public class PostController {
 
     private final PostService postService;
+    private final ResourceVersions resourceVersions;
+    private final ObjectMapper objectMapper;
 
     // 게시글 등록
     @PostMapping("/posts")
@@ -29,24 +40,64 @@ public class PostController {
 
     // 게시글 전체 조회
     @GetMapping("/posts")
-    public ResponseEntity<Map<String, Object>> getAll() {
-        List<PostResponseDto> newsFeed = postService.getAll();
-        if (newsFeed.isEmpty()) {
+    public ResponseEntity<Map<String, Object>> getAll(@RequestParam(name = "after", required = false) String after,
+                                                      @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                                      @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                      WebRequest webRequest) {
+        // 조회 전에 버전을 읽으므로, 조회 도중 쓰기가 있으면 다음 요청에서 한 번 더 200 으로 응답할 뿐 잘못된 304 는 없음
+        ResourceVersions.Version version = resourceVersions.feed();
+        if (webRequest.checkNotModified(resourceVersions.etag("feed", version, getUserId(userDetails)))) {
+            return null;
+        }
+        PostPageResponseDto page = PrimaryReads.call(() -> postService.getAll(after, limit));
+        Map<String, Object> response = new HashMap<>();
+        if (page.getNewsFeed().isEmpty() && after == null) {
             // 뉴스피드가 비어있는 경우
-            Map<String, Object> response = new HashMap<>();
             response.put("statusCode", HttpStatus.OK.value());
             response.put("msg", "먼저 작성하여 소식을 알려보세요 📝");
-            return ResponseEntity.ok().body(response);
         } else {
             // 뉴스피드가 있는 경우
-            return ResponseEntity.ok().body(Collections.singletonMap("newsFeed", newsFeed));
+            response.put("newsFeed", page.getNewsFeed());
+            response.put("nextCursor", page.getNextCursor());
         }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
+    }
+
+    // 게시글 전체 내보내기 : DB 에서 읽는 대로 바로 응답에 씀
+    @GetMapping("/posts/stream")
+    public ResponseEntity<StreamingResponseBody> stream(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Long userId = getUserId(userDetails);
+        StreamingResponseBody body = JsonArrayStreamingBody.<PostResponseDto>of(objectMapper, "newsFeed",
+                consumer -> postService.streamAll(userId, consumer));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 게시글 검색
+    @GetMapping("/posts/search")
+    public ResponseEntity<PostSearchResponseDto> search(@RequestParam(name = "q") String query,
+                                                        @RequestParam(name = "page", defaultValue = "0") int page,
+                                                        @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok().body(postService.search(query, page, size));
+    }
+
+    // 인기 게시글 조회
+    @GetMapping("/posts/trending")
+    public ResponseEntity<Map<String, Object>> getTrending(@RequestParam(name = "limit", defaultValue = "20") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("trending", postService.getTrending(limit));
+        return ResponseEntity.ok().body(response);
     }
 
     // 게시글 부분 조회
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<PostResponseDto> findById(@PathVariable(name = "postId") long postId) {
-        return ResponseEntity.ok().body(postService.findById(postId));
+    public ResponseEntity<PostResponseDto> findById(@PathVariable(name = "postId") long postId,
+                                                    @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                    WebRequest webRequest) {
+        ResourceVersions.Version version = resourceVersions.post(postId);
+        if (webRequest.checkNotModified(resourceVersions.etag("post-" + postId, version, getUserId(userDetails)))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(PrimaryReads.call(() -> postService.findById(postId)));
     }
 
     // 게시글 수정
@@ -64,4 +115,9 @@ public class PostController {
         response.put("msg", "게시글 삭제 성공 🎉");
         return ResponseEntity.ok().body(response);
     }
+
+    // 응답에 likedByMe 가 포함되므로 사용자별로 ETag 를 구분
+    private static Long getUserId(UserDetailsImpl userDetails) {
+        return userDetails == null ? null : userDetails.getUser().getId();
+    }
 }
@@ -1,5 +1,7 @@
 package com.sparta.mvm.controller;
 
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.datasource.PrimaryReads;
 import com.sparta.mvm.dto.ProfileRequestDto;
 import com.sparta.mvm.dto.ProfileResponseDto;
 import com.sparta.mvm.exception.CommonResponse;
@@ -8,9 +10,13 @@ import com.sparta.mvm.service.ProfileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.CompletableFuture;
 
 import static com.sparta.mvm.exception.ErrorEnum.USER_NOT_FOUND;
 
@@ -20,26 +26,36 @@ import static com.sparta.mvm.exception.ErrorEnum.USER_NOT_FOUND;
 @RequestMapping("/profiles")
 public class ProfileController {
     private final ProfileService profileService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<CommonResponse> getProfile(@PathVariable Long userId) {
+    public ResponseEntity<CommonResponse> getProfile(@PathVariable Long userId, WebRequest webRequest) {
+        ResourceVersions.Version version = resourceVersions.profile(userId);
+        if (webRequest.checkNotModified(resourceVersions.etag("profile-" + userId, version, null))) {
+            return null;
+        }
 
-        ProfileResponseDto profile = profileService.getProfile(userId);
+        ProfileResponseDto profile = PrimaryReads.call(() -> profileService.getProfile(userId));
 
-        return getResponseEntity("프로필 조회 성공\uD83C\uDF89", HttpStatus.OK.value(), profile);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(CommonResponse.builder()
+                        .msg("프로필 조회 성공\uD83C\uDF89")
+                        .statusCode(HttpStatus.OK.value())
+                        .data(profile)
+                        .build());
     }
 
+    // 비밀번호 계산이 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
     @PutMapping("/{userId}")
-    public ResponseEntity<CommonResponse> updateProfile(@PathVariable Long userId, @Valid @RequestBody ProfileRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<CommonResponse>> updateProfile(@PathVariable Long userId, @Valid @RequestBody ProfileRequestDto requestDto) {
         // userId가 전달되지 않은 경우
         if (userId == null) {
             throw new CustomException(USER_NOT_FOUND);
         }
 
-        ProfileResponseDto profile = profileService.updateProfile(userId, requestDto);
-
-        return getResponseEntity("프로필 수정 성공\uD83C\uDF89", HttpStatus.OK.value(), profile);
-
+        return profileService.updateProfile(userId, requestDto).thenApply(profile ->
+                getResponseEntity("프로필 수정 성공\uD83C\uDF89", HttpStatus.OK.value(), profile));
     }
 
     private static ResponseEntity<CommonResponse> getResponseEntity(String msg, int statusCode, ProfileResponseDto profile) {
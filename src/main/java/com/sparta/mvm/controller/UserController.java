@@ -1,5 +1,6 @@
 package com.sparta.mvm.controller;
 
+import com.sparta.mvm.dto.LoginRequestDto;
 import com.sparta.mvm.dto.ResignDto;
 import com.sparta.mvm.dto.SignupRequestDto;
 import com.sparta.mvm.dto.SignupResponseDto;
@@ -16,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -27,16 +30,29 @@ public class UserController {
     private final AuthService authService;
 
 
+    // 비밀번호 해시가 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
     @PostMapping("/signup")
-    public ResponseEntity<CommonResponse<SignupResponseDto>> signup(@Valid @RequestBody SignupRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<CommonResponse<SignupResponseDto>>> signup(@Valid @RequestBody SignupRequestDto requestDto) {
 
-        SignupResponseDto responseDto = userService.signup(requestDto);
+        return userService.signup(requestDto).thenApply(responseDto ->
+                ResponseEntity.ok().body(CommonResponse.<SignupResponseDto>builder()
+                        .msg("회원가입 성공")
+                        .statusCode(200)
+                        .data(responseDto)
+                        .build()));
+    }
 
-        return ResponseEntity.ok().body(CommonResponse.<SignupResponseDto>builder()
-                .msg("회원가입 성공")
-                .statusCode(200)
-                .data(responseDto)
-                .build());
+    // 비밀번호 검증이 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답, 토큰은 쿠키(Set-Cookie 헤더)로 전달
+    @PostMapping("/login")
+    // 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 getRemoteAddr 가 실제 클라이언트 IP 가 됨
+    public CompletableFuture<ResponseEntity<CommonResponse<Void>>> login(@RequestBody LoginRequestDto requestDto,
+                                                                         HttpServletRequest request) {
+
+        return authService.login(requestDto, request.getRemoteAddr()).thenApply(cookies ->
+                ResponseEntity.ok().headers(cookies).body(CommonResponse.<Void>builder()
+                        .msg("로그인이 성공하였습니다! (토큰/리프레시토큰 생성)")
+                        .statusCode(200)
+                        .build()));
     }
 
     @GetMapping("/reissue")
@@ -58,13 +74,14 @@ public class UserController {
 
     }
 
+    // 비밀번호 검증이 끝날 때까지 요청 스레드를 붙잡지 않도록 비동기로 응답
     @PutMapping("/resign")
-    public ResponseEntity<CommonResponse<ResignDto>> resign(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestBody ResignDto resignDto) {
+    public CompletableFuture<ResponseEntity<CommonResponse<ResignDto>>> resign(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestBody ResignDto resignDto) {
 
-        userService.resign(userDetails.getUser(), resignDto);
-        return ResponseEntity.ok().body(CommonResponse.<ResignDto>builder()
-                .msg("회원탈퇴 성공")
-                .statusCode(200)
-                .build());
+        return userService.resign(userDetails.getUser(), resignDto).thenApply(ignored ->
+                ResponseEntity.ok().body(CommonResponse.<ResignDto>builder()
+                        .msg("회원탈퇴 성공")
+                        .statusCode(200)
+                        .build()));
     }
 }
@@ -0,0 +1,31 @@
+package com.sparta.mvm.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 이 범위 안에서 실행한 읽기는 readOnly 트랜잭션이어도 primary 로 보낸다.
+ * 조건부 GET 은 조회 전에 읽은 ResourceVersions 버전으로 ETag 를 만들므로, 복제가 늦은 replica 에서 본문을 읽으면
+ * 이전 본문이 새 ETag 로 캐시되어 다음 쓰기 전까지 계속 304 로 응답하게 된다. ETag 를 붙이는 조회는 이 범위 안에서 실행한다.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        boolean outer = ACTIVE.get() == null;
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (outer) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
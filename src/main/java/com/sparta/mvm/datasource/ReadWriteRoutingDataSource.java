@@ -0,0 +1,195 @@
+package com.sparta.mvm.datasource;
+
+import com.sparta.mvm.security.UserDetailsImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 그 외는 primary 로 커넥션을 나눠 주는 DataSource.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 쿼리 시점에 커넥션을 가져오도록 해야 한다.
+ * - replica 는 라운드 로빈으로 고르고, 커넥션을 못 얻은 replica 는 retry-after 동안 빼고 primary 로 대신 보낸다.
+ * - 쓰기 트랜잭션이 커밋되면 그 사용자의 읽기는 ReadYourWrites 기간 동안 primary 로 보낸다.
+ * - ETag 를 붙이는 조회(PrimaryReads)는 primary 로 보낸다.
+ */
+@Slf4j(topic = "ReadWriteRoutingDataSource")
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Clock clock;
+    private final long retryAfterMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder stickyRoutes = new LongAdder();
+    private final LongAdder conditionalRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWrites readYourWrites,
+                                      Clock clock, Duration retryAfter) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(index -> new Replica(index, replicas.get(index)))
+                .toList();
+        this.readYourWrites = readYourWrites;
+        this.clock = clock;
+        this.retryAfterMillis = retryAfter.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    // 계정을 지정한 요청도 같은 기준으로 고른 대상에 그대로 넘김
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        Long userId = getPrincipalUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(userId);
+            primaryRoutes.increment();
+            return opener.open(primary);
+        }
+        if (userId != null && readYourWrites.isSticky(userId)) {
+            stickyRoutes.increment();
+            return opener.open(primary);
+        }
+        if (PrimaryReads.isActive()) {
+            conditionalRoutes.increment();
+            return opener.open(primary);
+        }
+        return readConnection(opener);
+    }
+
+    // 살아있는 replica 를 차례로 시도하고, 모두 실패하면 primary
+    private Connection readConnection(ConnectionOpener opener) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable(clock.millis())) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.routes.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(clock.millis() + retryAfterMillis);
+                log.warn("replica-{} 커넥션 실패 : {} ms 동안 primary 로 대신 보냅니다.", replica.index, retryAfterMillis, e);
+            }
+        }
+        fallbackRoutes.increment();
+        return opener.open(primary);
+    }
+
+    private void recordWriteAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(userId);
+            }
+        });
+    }
+
+    // 인증 정보에 담긴 사용자 ID : 인증되지 않았으면 null
+    private Long getPrincipalUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getUser().getId();
+        }
+        return null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("datasource.routes", primaryRoutes, LongAdder::sum)
+                .tag("route", "primary")
+                .register(registry);
+        FunctionCounter.builder("datasource.routes", stickyRoutes, LongAdder::sum)
+                .tag("route", "primary-sticky")
+                .register(registry);
+        FunctionCounter.builder("datasource.routes", conditionalRoutes, LongAdder::sum)
+                .tag("route", "primary-conditional")
+                .register(registry);
+        FunctionCounter.builder("datasource.routes", fallbackRoutes, LongAdder::sum)
+                .tag("route", "primary-fallback")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("datasource.routes", replica.routes, LongAdder::sum)
+                    .tag("route", "replica-" + replica.index)
+                    .register(registry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.isAvailable(clock.millis()) ? 1 : 0)
+                    .tag("route", "replica-" + replica.index)
+                    .register(registry);
+        }
+        Gauge.builder("datasource.sticky.users", readYourWrites, ReadYourWrites::size)
+                .register(registry);
+    }
+
+    // 종료 시 primary 와 replica 커넥션 풀 정리
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            closeIfPossible(replica.dataSource);
+        }
+        closeIfPossible(primary);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final int index;
+        private final DataSource dataSource;
+        private final LongAdder routes = new LongAdder();
+        private volatile long downUntil;
+
+        Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(long now) {
+            return now >= downUntil;
+        }
+
+        void markDown(long until) {
+            downUntil = until;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.mvm.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방금 쓰기를 커밋한 사용자를 잠시 기억해 두고, 그동안 그 사용자의 읽기는 primary 로 보낸다.
+ * 복제 지연 동안 본인이 쓴 글이 보이지 않는 문제를 막기 위한 것이며, 서버 한 대 기준이다.
+ */
+public class ReadYourWrites {
+    private final Clock clock;
+    private final long windowMillis;
+    private final int maxTracked;
+    // 사용자 ID → primary 로 보낼 마지막 시각 (epoch millis)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Clock clock, Duration window, int maxTracked) {
+        this.clock = clock;
+        this.windowMillis = window.toMillis();
+        this.maxTracked = maxTracked;
+    }
+
+    public void recordWrite(Long userId) {
+        long now = clock.millis();
+        if (stickyUntil.size() >= maxTracked) {
+            // 만료된 항목만 지움, 그래도 가득 차 있으면 이 사용자는 기억하지 않음 (복제 지연 동안 이전 값을 볼 수 있음)
+            stickyUntil.values().removeIf(until -> until <= now);
+            if (stickyUntil.size() >= maxTracked) {
+                return;
+            }
+        }
+        stickyUntil.put(userId, now + windowMillis);
+    }
+
+    public boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        stickyUntil.remove(userId, until);
+        return false;
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.mvm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록 항목별 결과 : 요청 배열의 순서(index)와 생성된 ID 또는 실패 사유
+@Getter
+@AllArgsConstructor
+public class BulkItemResultDto {
+    private int index;
+    private boolean success;
+    @JsonSnowflakeId
+    private Long id;
+    private String error;
+
+    public static BulkItemResultDto success(int index, Long id) {
+        return new BulkItemResultDto(index, true, id, null);
+    }
+
+    public static BulkItemResultDto failure(int index, String error) {
+        return new BulkItemResultDto(index, false, null, error);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.mvm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkResponseDto {
+    private String msg;
+    private int statusCode;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResultDto> results;
+
+    public static BulkResponseDto toDto(String msg, int statusCode, List<BulkItemResultDto> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResultDto::isSuccess).count();
+        return BulkResponseDto.builder()
+                .msg(msg)
+                .statusCode(statusCode)
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
@@ -11,14 +11,18 @@ import java.time.LocalDateTime;
 
 @Getter
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommentResponseDto {
     private String msg;
     private int statusCode;
+    @JsonSnowflakeId
     private Long id;
     private String username;
     @NotBlank(message = "내용을 입력해 주세요")
     private String comments;
+    private long likeCount;
+    // 로그인한 사용자가 좋아요를 눌렀는지 여부 : 조회 시점에 요청마다 채움
+    private boolean likedByMe;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -26,12 +30,32 @@ public class CommentResponseDto {
 
     // 댓글 등록, 수정, 조회
     public static CommentResponseDto toDto(String msg, int statusCode, Comment comment) {
+        return toDto(msg, statusCode, comment, comment.getUser().getUsername());
+    }
+
+    // 작성자 이름을 이미 알고 있을 때 : 작성자가 지연 참조여도 SELECT 하지 않음
+    public static CommentResponseDto toDto(String msg, int statusCode, Comment comment, String username) {
+        return CommentResponseDto.builder()
+                .msg(msg)
+                .statusCode(statusCode)
+                .id(comment.getId())
+                .username(username)
+                .comments(comment.getComments())
+                .likeCount(comment.getLikeCount())
+                .createdAt(comment.getCreatedAt())
+                .modifiedAt(comment.getModifiedAt())
+                .build();
+    }
+
+    // 댓글 목록 조회
+    public static CommentResponseDto toDto(String msg, int statusCode, CommentSummaryDto comment) {
         return CommentResponseDto.builder()
                 .msg(msg)
                 .statusCode(statusCode)
                 .id(comment.getId())
-                .username(comment.getUser().getUsername())
+                .username(comment.getUsername())
                 .comments(comment.getComments())
+                .likeCount(comment.getLikeCount())
                 .createdAt(comment.getCreatedAt())
                 .modifiedAt(comment.getModifiedAt())
                 .build();
@@ -0,0 +1,18 @@
+package com.sparta.mvm.dto;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Snowflake ID 는 2^53 을 넘어 JavaScript 숫자로는 정확히 표현되지 않으므로 응답 DTO 의 ID 는 문자열로 내보냄
+@JacksonAnnotationsInside
+@JsonSerialize(using = ToStringSerializer.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface JsonSnowflakeId {
+}
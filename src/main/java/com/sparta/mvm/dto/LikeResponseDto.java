@@ -1,43 +1,26 @@
 package com.sparta.mvm.dto;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
-import com.sparta.mvm.entity.Like;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.time.LocalDateTime;
-
 @Getter
 @Builder
 @AllArgsConstructor
 public class LikeResponseDto {
     private String msg;
     private int statusCode;
-    private Long id;
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime createdAt;
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime modifiedAt;
-
-    public static LikeResponseDto toDto(String msg, int statusCode, Like like) {
-        return LikeResponseDto.builder()
-                .msg(msg)
-                .statusCode(statusCode)
-                .id(like.getId())
-                .createdAt(like.getCreatedAt())
-                .modifiedAt(like.getModifiedAt())
-                .build();
-    }
+    // 요청 처리 후 좋아요 상태
+    private boolean liked;
+    // 이번 요청으로 상태가 바뀌었는지 여부 (이미 같은 상태였으면 false)
+    private boolean changed;
 
-    public static LikeResponseDto toDeleteResponse(String msg, int statusCode, Like like) {
+    public static LikeResponseDto toDto(String msg, int statusCode, boolean liked, boolean changed) {
         return LikeResponseDto.builder()
                 .msg(msg)
                 .statusCode(statusCode)
-                .id(like.getId())
-                .createdAt(like.getCreatedAt())
-                .modifiedAt(like.getModifiedAt())
+                .liked(liked)
+                .changed(changed)
                 .build();
     }
-
 }
@@ -0,0 +1,42 @@
+package com.sparta.mvm.dto;
+
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 뉴스피드 커서 : ID 가 생성 시각 순이므로 마지막으로 받은 게시글의 id 만 클라이언트에는 불투명한 문자열로 전달
+@Getter
+public class PostCursor {
+    // 이전 형식("createdAt,id") 커서도 id 부분만 읽어 계속 사용할 수 있게 함
+    private static final String DELIMITER = ",";
+
+    private final Long id;
+
+    public PostCursor(Long id) {
+        this.id = id;
+    }
+
+    public static PostCursor of(PostResponseDto post) {
+        return new PostCursor(post.getId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            if (parts.length > 2) {
+                throw new CustomException(ErrorEnum.BAD_CURSOR);
+            }
+            return new PostCursor(Long.parseLong(parts[parts.length - 1]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorEnum.BAD_CURSOR);
+        }
+    }
+}
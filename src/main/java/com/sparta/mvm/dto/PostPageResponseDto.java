@@ -0,0 +1,14 @@
+package com.sparta.mvm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostPageResponseDto {
+    private List<PostResponseDto> newsFeed;
+    // 다음 페이지 조회용 커서, 마지막 페이지면 null
+    private String nextCursor;
+}
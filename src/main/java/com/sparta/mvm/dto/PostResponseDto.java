@@ -10,16 +10,20 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class PostResponseDto {
     private String msg;
     private int statusCode;
+    @JsonSnowflakeId
     private Long id;
     @NotBlank(message = "이름을 입력해 주세요")
     private String username;
     @NotBlank(message = "내용을 입력해 주세요")
     private String contents;
+    private long likeCount;
+    // 로그인한 사용자가 좋아요를 눌렀는지 여부 : 조회 시점에 요청마다 채움
+    private boolean likedByMe;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -27,12 +31,32 @@ public class PostResponseDto {
 
     //게시글 등록, 수정, 조회
     public static PostResponseDto toDto(String msg, int statusCode, Post post) {
+        return toDto(msg, statusCode, post, post.getUser().getUsername());
+    }
+
+    // 작성자 이름을 이미 알고 있을 때 : 작성자가 지연 참조여도 SELECT 하지 않음
+    public static PostResponseDto toDto(String msg, int statusCode, Post post, String username) {
+        return PostResponseDto.builder()
+                .msg(msg)
+                .statusCode(statusCode)
+                .id(post.getId())
+                .username(username)
+                .contents(post.getContents())
+                .likeCount(post.getLikeCount())
+                .createdAt(post.getCreatedAt())
+                .modifiedAt(post.getModifiedAt())
+                .build();
+    }
+
+    // 뉴스피드 조회
+    public static PostResponseDto toDto(String msg, int statusCode, PostSummaryDto post) {
         return PostResponseDto.builder()
                 .msg(msg)
                 .statusCode(statusCode)
                 .id(post.getId())
-                .username(post.getUser().getUsername())
+                .username(post.getUsername())
                 .contents(post.getContents())
+                .likeCount(post.getLikeCount())
                 .createdAt(post.getCreatedAt())
                 .modifiedAt(post.getModifiedAt())
                 .build();
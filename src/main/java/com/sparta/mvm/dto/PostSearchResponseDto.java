@@ -0,0 +1,16 @@
+package com.sparta.mvm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시글 검색 결과 : 점수 순 게시글과 전체 일치 건수
+@Getter
+@AllArgsConstructor
+public class PostSearchResponseDto {
+    private List<PostResponseDto> posts;
+    private long totalHits;
+    private int page;
+    private int size;
+}
@@ -0,0 +1,18 @@
+package com.sparta.mvm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 뉴스피드 조회용 projection : 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+    private Long id;
+    private String username;
+    private String contents;
+    private long likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -1,29 +1,46 @@
 package com.sparta.mvm.entity;
 
+import com.sparta.mvm.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_deleted_at", columnList = "deleted_at"))
+// 삭제는 deleted_at 만 기록하고 조회에서 제외, 좋아요와 함께 SoftDeletePurger 가 나중에 실제로 지움
+@SQLDelete(sql = "update comments set deleted_at = now(6) where id = ?")
+@SQLRestriction("deleted_at is null")
 @NoArgsConstructor
 public class Comment extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "COMMENTS", nullable = false)
     private String comments;
 
-    @ManyToOne
+    // 좋아요 수 : LikeCountAccumulator 가 배치로만 증감하므로 엔티티 변경 감지로는 덮어쓰지 않음
+    @ColumnDefault("0")
+    @Column(name = "LIKE_COUNT", nullable = false, updatable = false)
+    private long likeCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     public Comment(String comments, Post post) {
         this.comments = comments;
         this.post = post;
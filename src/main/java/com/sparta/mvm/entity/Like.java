@@ -1,27 +1,32 @@
 package com.sparta.mvm.entity;
 
+import com.sparta.mvm.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+// 사용자당 게시글/댓글 하나에 좋아요 한 번 : 동시 요청이 와도 DB 가 중복을 막는다
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_user_post", columnNames = {"user_id", "post_id"}),
+        @UniqueConstraint(name = "uk_likes_user_comment", columnNames = {"user_id", "comment_id"})
+})
 @NoArgsConstructor
 public class Like extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
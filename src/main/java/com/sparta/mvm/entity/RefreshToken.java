@@ -0,0 +1,28 @@
+package com.sparta.mvm.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 저장소(JdbcRefreshTokenStore)의 테이블 정의 : 값은 JdbcTemplate 으로만 읽고 씀
+// 토큰 원문 대신 SHA-256 해시를 키로 저장하고, 로그인/재발급이 사용자 행을 잠그지 않도록 user_id 에 FK 를 두지 않음
+@Entity
+@Getter
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -2,6 +2,7 @@ package com.sparta.mvm.entity;
 
 import com.sparta.mvm.dto.ProfileRequestDto;
 import com.sparta.mvm.dto.SignupRequestDto;
+import com.sparta.mvm.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -14,11 +15,11 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "metromusic")
+@Table(name = "metromusic", uniqueConstraints = @UniqueConstraint(name = "uk_metromusic_username", columnNames = "USERNAME"))
 @NoArgsConstructor
 public class User extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "USERNAME", nullable = false, length = 20)
@@ -40,9 +41,6 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private UserStatusEnum userStatus;
 
-    @Column(name = "REFRESH_TOKEN", length = 255)
-    private String refreshToken;
-
     @CreatedDate
     @LastModifiedDate
     @Temporal(TemporalType.TIMESTAMP)
@@ -86,10 +84,6 @@ public class User extends Timestamped {
         this.password = requestDto.getChangedPassword();
     }
 
-    public void setRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
     public void resignStatus() {
         this.userStatus = UserStatusEnum.USER_RESIGN;
     }
@@ -15,6 +15,9 @@ public enum ErrorEnum {
     BAD_POSTID(400, "게시글 ID를 찾을 수 없습니다."),
     BAD_AUTH_PUT(400, "작성자만 수정할 수 있습니다."),
     BAD_AUTH_DELETE(400, "작성자만 삭제할 수 있습니다."),
+    BAD_CURSOR(400, "잘못된 커서 값입니다."),
+    BAD_SEARCH_QUERY(400, "검색어를 입력해 주세요."),
+    BAD_BULK_SIZE(400, "한 번에 등록할 수 있는 개수를 확인해 주세요."),
     // comment
     BAD_COMMENTID(400, "댓글 ID를 찾을 수 없습니다."),
     // authorization
@@ -27,10 +30,12 @@ public enum ErrorEnum {
     SAME_PASSWORD(400, "입력이 기존과 동일합니다."),
     // like
     BAD_AUTH_LIKE(400, "본인의 게시물이나 댓글에 좋아요를 남길 수 없습니다."),
-    DUPLICATE_LIKE(400, "이미 좋아요를 눌렀습니다."),
     CANNOT_LIKE_OWN_POST(400, "본인의 게시글에는 좋아요를 누를 수 없습니다."),
     CANNOT_LIKE_OWN_COMMENT(400, "본인의 댓글에는 좋아요를 누를 수 없습니다."),
-    LIKE_NOT_FOUND(400, "좋아요를 찾을 수 없습니다.");
+    // login
+    TOO_MANY_LOGIN_ATTEMPTS(429, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    // server
+    SERVER_BUSY(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     int statusCode;
     String msg; // 출력 메시지
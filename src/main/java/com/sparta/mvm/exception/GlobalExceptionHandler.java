@@ -15,11 +15,25 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({CustomException.class})
     protected ResponseEntity handleCustomException(CustomException ex) {
-        HttpStatus status = ex.getStatusEnum() == ErrorEnum.BAD_POSTID ? HttpStatus.NOT_FOUND : HttpStatus.FORBIDDEN;
-        return ResponseEntity.status(status).body(CommonResponse.builder()
-                .statusCode(ex.getStatusEnum().getStatusCode())
-                .msg(ex.getStatusEnum().getMsg())
-                .build());
+        return ResponseEntity.status(statusOf(ex.getStatusEnum())).body(bodyOf(ex.getStatusEnum()));
+    }
+
+    // CustomException 의 HTTP 상태와 응답 본문 : 컨트롤러 밖에서 응답하는 곳(reactive 읽기 API)도 같은 규칙을 사용
+    public static HttpStatus statusOf(ErrorEnum error) {
+        return switch (error) {
+            case BAD_POSTID -> HttpStatus.NOT_FOUND;
+            case BAD_CURSOR, BAD_SEARCH_QUERY, BAD_BULK_SIZE -> HttpStatus.BAD_REQUEST;
+            case TOO_MANY_LOGIN_ATTEMPTS -> HttpStatus.TOO_MANY_REQUESTS;
+            case SERVER_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.FORBIDDEN;
+        };
+    }
+
+    public static CommonResponse<Void> bodyOf(ErrorEnum error) {
+        return CommonResponse.<Void>builder()
+                .statusCode(error.getStatusCode())
+                .msg(error.getMsg())
+                .build();
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -0,0 +1,66 @@
+package com.sparta.mvm.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 증가하는 64비트 ID 생성기 (Snowflake 방식).
+ * | 41비트 : 기준 시각(2024-01-01) 이후 밀리초 | 10비트 : 노드 ID | 12비트 : 같은 밀리초 안의 순번 |
+ * 마지막 (시각, 순번)을 AtomicLong 하나에 담아 CAS 로 갱신하므로 락이 없다.
+ * 시계가 뒤로 가도 마지막 시각을 계속 사용하고, 순번이 다 차면 다음 밀리초를 미리 당겨 쓰므로 한 노드 안에서는 항상 증가한다.
+ */
+public final class Snowflake {
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 같은 노드 ID 는 엔티티가 달라도 하나의 상태를 공유 (Hibernate 생성기와 JDBC 일괄 INSERT 가 같은 순서를 사용)
+    private static final Map<Integer, Snowflake> NODES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    public Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public static Snowflake forNode(int nodeId) {
+        return NODES.computeIfAbsent(nodeId, id -> new Snowflake(id, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTime = current >>> SEQUENCE_BITS;
+            long now = Math.max(clock.getAsLong() - EPOCH, lastTime);
+            long next;
+            if (now > lastTime) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = current + 1;
+            } else {
+                next = (lastTime + 1) << SEQUENCE_BITS;
+            }
+            if (state.compareAndSet(current, next)) {
+                long time = next >>> SEQUENCE_BITS;
+                return (time << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // ID 에 담긴 생성 시각
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.mvm.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+// @SnowflakeId 가 붙은 ID 의 Hibernate 생성기 : 노드 ID 는 spring.jpa.properties.mvm.snowflake.node-id 로 전달
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+    public static final String NODE_ID_SETTING = "mvm.snowflake.node-id";
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().getService(ConfigurationService.class);
+        Integer nodeId = configuration.getSetting(NODE_ID_SETTING, StandardConverters.INTEGER);
+        if (nodeId == null) {
+            // 모든 서버가 같은 기본 노드 ID 를 쓰면 ID 가 겹치므로 기본값 없이 기동 실패
+            throw new IllegalStateException(NODE_ID_SETTING + " 가 설정되지 않았습니다.");
+        }
+        this.snowflake = Snowflake.forNode(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake.nextId();
+    }
+}
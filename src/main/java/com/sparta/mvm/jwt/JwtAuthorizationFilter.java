@@ -1,6 +1,10 @@
 package com.sparta.mvm.jwt;
 
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
 import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.security.TokenDenyList;
+import com.sparta.mvm.security.UserDetailsImpl;
 import com.sparta.mvm.security.UserDetailsServiceImpl;
 import com.sparta.mvm.service.AuthService;
 import io.jsonwebtoken.Claims;
@@ -12,7 +16,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,11 +26,17 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthService authService;
+    private final TokenDenyList tokenDenyList;
+    // true 면 검증된 토큰 claim 으로 principal 을 만들고 사용자를 조회하지 않음
+    private final boolean stateless;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthService authService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthService authService,
+                                  TokenDenyList tokenDenyList, boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.authService = authService;
+        this.tokenDenyList = tokenDenyList;
+        this.stateless = stateless;
     }
 
 
@@ -45,33 +54,53 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             }
             tokenValue = jwtUtil.substringToken(tokenValue);
             refreshTokenValue = jwtUtil.substringToken(refreshTokenValue);
+            Claims info;
             if (req.getRequestURI().equals("/users/reissue")) {
                 jwtUtil.validToken(refreshTokenValue, JwtTokenType.REFRESH_TOKEN, req);
                 tokenValue = authService.tokenReissuance(refreshTokenValue, res);
                 tokenValue = jwtUtil.substringToken(tokenValue);
+                info = jwtUtil.getUserInfoFromToken(tokenValue);
             } else {
                 jwtUtil.validToken(refreshTokenValue, JwtTokenType.REFRESH_TOKEN, req);
-                jwtUtil.validToken(tokenValue, JwtTokenType.ACCESS_TOKEN, req);
+                info = jwtUtil.validToken(tokenValue, JwtTokenType.ACCESS_TOKEN, req);
             }
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-            setAuthentication(info.getSubject());
+            // 검증한 claim 은 요청 속성으로 넘겨 서비스에서 다시 파싱하지 않음
+            req.setAttribute(JwtUtil.ACCESS_CLAIMS_ATTRIBUTE, info);
+            setAuthentication(info, req);
         }
         filterChain.doFilter(req, res);
     }
 
     // 인증 처리
-    public void setAuthentication(String username) {
+    public void setAuthentication(Claims info, HttpServletRequest req) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(info);
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+
+        // 로그아웃/탈퇴 이후의 토큰 거부
+        if (userDetails.getUser().getUserStatus() == UserStatusEnum.USER_RESIGN
+                || tokenDenyList.isRevoked(userDetails.getUser().getId(), info.getIssuedAt())) {
+            req.setAttribute("NOT_VALID_TOKEN", ErrorEnum.NOT_VALID_TOKEN);
+            throw new IllegalArgumentException("폐기된 토큰");
+        }
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
-    // 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    // 인증 객체 생성 : uid 클레임이 없는 이전 토큰은 DB 에서 사용자를 조회
+    private Authentication createAuthentication(Claims info) {
+        Long userId = jwtUtil.getUserId(info);
+        UserDetailsImpl userDetails;
+        if (stateless && userId != null) {
+            // claim 만 담은 사용자 : 비밀번호 등 다른 값은 비어 있으므로 필요하면 DB 에서 다시 조회
+            User user = new User(info.getSubject(), null, null, null, null, jwtUtil.getUserStatus(info));
+            user.setId(userId);
+            userDetails = new UserDetailsImpl(user);
+        } else {
+            userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(info.getSubject());
+        }
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, null);
     }
-}
\ No newline at end of file
+}
@@ -1,70 +1,125 @@
 package com.sparta.mvm.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
 import com.sparta.mvm.exception.ErrorEnum;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
     // Header KEY 값
     public static final String ACCESS_TOKEN_HEADER = "AccessToken";
     public static final String REFRESH_TOKEN_HEADER = "RefreshToken";
 
     public static final String BEARER_PREFIX = "Bearer ";
+    // 사용자 ID, 상태 클레임 : 요청마다 사용자를 다시 조회하지 않도록 토큰에 함께 담음
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String USER_STATUS_CLAIM = "status";
+    // 인증 필터가 검증한 액세스 토큰 claim 을 담아 두는 요청 속성 : 이후 서비스에서 토큰을 다시 파싱하지 않음
+    public static final String ACCESS_CLAIMS_ATTRIBUTE = "jwt.accessClaims";
     // 토큰 만료시간
-    private final long TOKEN_TIME = 60 * 30 * 1000L; // 1000 = 1초
+    public static final long TOKEN_TIME = 60 * 30 * 1000L; // 1000 = 1초
     private final long REFRESH_TOKEN_TIME = 60 * 60 * 24 * 14 * 1000L;
 
-    // Base64 Encode 한 SecretKey
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-    private Key key;
+    private final Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // 서명 검증용 파서 : 스레드 안전하므로 하나를 만들어 재사용
+    private final JwtParser parser;
+    private final Clock clock;
+    // 검증 결과 캐시 : 토큰의 SHA-256 digest -> claim, 토큰 만료 시각까지 유지
+    private final Cache<ByteBuffer, Claims> verified;
 
     // 로그 설정
     public static final Logger logger = LoggerFactory.getLogger("JWT 관련 로그");
 
-    @PostConstruct
-    public void init() {
+    // secretKey : Base64 Encode 한 SecretKey
+    public JwtUtil(@Value("${jwt.secret.key}") String secretKey,
+                   @Value("${jwt.verify-cache.max-size:10000}") long verifyCacheMaxSize,
+                   Clock clock) {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        this.key = Keys.hmacShaKeyFor(bytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).setClock(() -> new Date(clock.millis())).build();
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifyCacheMaxSize)
+                .expireAfter(new Expiry<ByteBuffer, Claims>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+                        if (claims.getExpiration() == null) {
+                            return Long.MAX_VALUE;
+                        }
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpiration().getTime() - clock.millis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
     }
 
     // 토큰 생성
-    public String createToken(String username, long setExpirationTime) {
-        Date date = new Date();
+    public String createToken(String username, Long userId, UserStatusEnum userStatus, long setExpirationTime) {
+        Date date = new Date(clock.millis());
 
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(username) // 사용자 식별자값(ID)
+                        .claim(USER_ID_CLAIM, userId)
+                        .claim(USER_STATUS_CLAIM, userStatus.name())
                         .setExpiration(new Date(date.getTime() + setExpirationTime)) // 만료 시간
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
-    public String createRefreshToken(String username) {
-        return createToken(username, REFRESH_TOKEN_TIME);
+    public String createRefreshToken(User user) {
+        return createToken(user.getUsername(), user.getId(), user.getUserStatus(), REFRESH_TOKEN_TIME);
+    }
+
+    public String createAccessToken(User user) {
+        return createToken(user.getUsername(), user.getId(), user.getUserStatus(), TOKEN_TIME);
     }
 
-    public String createAccessToken(String username) {
-        return createToken(username, TOKEN_TIME);
+    // 재발급 : 저장소에서 확인한 리프레시 토큰의 claim 으로 같은 사용자의 액세스 토큰 생성
+    public String createAccessToken(Claims refreshClaims) {
+        return createToken(refreshClaims.getSubject(), getUserId(refreshClaims), getUserStatus(refreshClaims), TOKEN_TIME);
     }
 
     // JWT Cookie 에 저장
@@ -83,6 +138,12 @@ public class JwtUtil {
     }
 
 
+    // 응답 객체 없이 Set-Cookie 헤더 값으로 만들 때 : 비동기 응답은 ResponseEntity 헤더로 쿠키를 전달
+    public ResponseCookie createJwtCookie(String token, String headerName) {
+        String value = URLEncoder.encode(token, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        return ResponseCookie.from(headerName, value).path("/").build();
+    }
+
     public void initJwtCookie(HttpServletResponse res) {
 
         Cookie cookie = new Cookie(REFRESH_TOKEN_HEADER, ""); // Name-Value
@@ -115,10 +176,10 @@ public class JwtUtil {
         throw new NullPointerException("Not Found Token");
     }
 
-    // 토큰 검증
-    public void validToken(String token, JwtTokenType jwtTokenType, HttpServletRequest request) {
+    // 토큰 검증 : 검증된 claim 반환
+    public Claims validToken(String token, JwtTokenType jwtTokenType, HttpServletRequest request) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return parseClaims(token);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             request.setAttribute("NOT_VALID_TOKEN", ErrorEnum.NOT_VALID_TOKEN);
             throw new RuntimeException("유효하지 않는 토큰 오류");
@@ -139,7 +200,46 @@ public class JwtUtil {
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parseClaims(token);
+    }
+
+    // 인증 필터가 검증해 둔 액세스 토큰 claim : 없으면 쿠키의 토큰에서 가져옴
+    public Claims getAccessClaims(HttpServletRequest req) {
+        if (req.getAttribute(ACCESS_CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            return claims;
+        }
+        return getUserInfoFromToken(substringToken(getAccessTokenFromRequest(req)));
+    }
+
+    // 서명 검증 후 claim 반환 : 같은 토큰은 만료 전까지 캐시된 결과를 사용
+    // 검증에 실패한 토큰은 캐시하지 않으므로 매번 같은 예외가 발생
+    private Claims parseClaims(String token) {
+        Claims claims = verified.get(digest(token), ignored -> parser.parseClaimsJws(token).getBody());
+        if (claims.getExpiration() != null && !claims.getExpiration().after(new Date(clock.millis()))) {
+            // 만료 시각과 캐시 제거 사이의 짧은 틈에 들어온 요청
+            throw new ExpiredJwtException(null, claims, "만료된 토큰");
+        }
+        return claims;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰의 사용자 ID : uid 클레임이 없는 이전 토큰이면 null
+    public Long getUserId(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId == null ? null : userId.longValue();
+    }
+
+    // 토큰의 사용자 상태 : status 클레임이 없는 이전 토큰이면 null
+    public UserStatusEnum getUserStatus(Claims claims) {
+        String status = claims.get(USER_STATUS_CLAIM, String.class);
+        return status == null ? null : UserStatusEnum.valueOf(status);
     }
 
     // HttpServletRequest 에서 Cookie Value : JWT 가져오기
@@ -166,4 +266,9 @@ public class JwtUtil {
     public String getRefreshTokenFromRequest(HttpServletRequest req) {
         return getTokenFromRequest(req, REFRESH_TOKEN_HEADER);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "jwt.verified");
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.mvm.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 reactive API(reactive.read.enabled=true) 의 R2DBC 커넥션 풀.
+ * JPA/JDBC 쓰기 경로와는 따로 replica 를 바라보는 풀을 두고, Spring Boot 의 R2DBC 자동 설정은 쓰지 않는다
+ * (자동 설정되는 R2dbcTransactionManager 가 JPA 트랜잭션 매니저를 대신하지 않도록 application.properties 에서 제외).
+ * replica 에서 읽으므로 쓰기 직후 본인 읽기(read-your-writes)는 보장하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = ReactiveReadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class ReactiveReadConfig {
+    public static final String ENABLED_PROPERTY = "reactive.read.enabled";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool readConnectionFactory(@Value("${reactive.read.r2dbc.url}") String url,
+                                                @Value("${reactive.read.r2dbc.username:}") String username,
+                                                @Value("${reactive.read.r2dbc.password:}") String password,
+                                                @Value("${reactive.read.r2dbc.pool.max-size:20}") int maxSize,
+                                                @Value("${reactive.read.r2dbc.pool.max-acquire-time:5s}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        // 풀이 모두 사용 중이면 스레드를 막지 않고 max-acquire-time 까지 대기열에서 기다림
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-read")
+                .initialSize(1)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient readDatabaseClient(ConnectionPool readConnectionFactory) {
+        return DatabaseClient.create(readConnectionFactory);
+    }
+}
@@ -0,0 +1,270 @@
+package com.sparta.mvm.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.dto.CommentResponseDto;
+import com.sparta.mvm.dto.PostCursor;
+import com.sparta.mvm.dto.PostPageResponseDto;
+import com.sparta.mvm.dto.PostResponseDto;
+import com.sparta.mvm.dto.PostSummaryDto;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.exception.CommonResponse;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.exception.FilterExceptionResponse;
+import com.sparta.mvm.exception.GlobalExceptionHandler;
+import com.sparta.mvm.jwt.JwtUtil;
+import com.sparta.mvm.security.TokenDenyList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 reactive API 의 요청 처리 (GET /posts, /posts/{postId}, /comments).
+ * PostController / CommentController 와 같은 응답 형태를 쓰고, 인증도 같은 쿠키 토큰으로 확인한다.
+ * 본문은 replica 를 가리키는 R2DBC 로 읽으므로 메모리의 ResourceVersions 버전보다 늦을 수 있어, ETag 같은 검증자는 붙이지 않는다.
+ * 모든 처리가 이벤트 루프에서 실행되므로 JDBC 같은 블로킹 호출은 하지 않고 DB 는 R2DBC 로만 읽는다
+ * (토큰 검증, 폐기 목록, likedByMe 는 메모리 조회).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ReactiveReadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class ReactiveReadHandler {
+    static final String USER_ID_ATTRIBUTE = "reactive.userId";
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String FEED_MSG = "게시글 조회 성공 🎉";
+    private static final String COMMENT_MSG = "댓글 조회 성공 🎉";
+
+    private final ReactiveReadRepository repository;
+    private final JwtUtil jwtUtil;
+    private final TokenDenyList tokenDenyList;
+    private final PostFeedCache postFeedCache;
+    private final LikedByMeIndex likedByMeIndex;
+    private final ObjectMapper objectMapper;
+
+    // JwtAuthorizationFilter 와 같은 규칙 : 액세스/리프레시 토큰이 모두 유효해야 하고, 탈퇴/로그아웃으로 폐기된 토큰은 거부
+    // uid 클레임이 없는 이전 토큰은 사용자 조회(JDBC)가 필요하므로 다시 로그인하도록 거부
+    public Mono<ServerResponse> authenticate(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String accessToken = getToken(request, JwtUtil.ACCESS_TOKEN_HEADER);
+        String refreshToken = getToken(request, JwtUtil.REFRESH_TOKEN_HEADER);
+        if (accessToken == null || refreshToken == null) {
+            return tokenError(ErrorEnum.NOT_VALID_TOKEN);
+        }
+        Claims info;
+        try {
+            verify(refreshToken, ErrorEnum.EXPIRED_REFRESH_TOKEN_VALUE);
+            info = verify(accessToken, ErrorEnum.EXPIRED_TOKEN_VALUE);
+        } catch (CustomException e) {
+            return tokenError(e.getStatusEnum());
+        }
+        Long userId = jwtUtil.getUserId(info);
+        if (userId == null
+                || jwtUtil.getUserStatus(info) == UserStatusEnum.USER_RESIGN
+                || tokenDenyList.isRevoked(userId, info.getIssuedAt())) {
+            return tokenError(ErrorEnum.NOT_VALID_TOKEN);
+        }
+        request.attributes().put(USER_ID_ATTRIBUTE, userId);
+        return next.handle(request);
+    }
+
+    // 게시글 전체 조회 : 한 페이지(최대 100건)만 읽으므로 모아서 한 번에 응답
+    public Mono<ServerResponse> getFeed(ServerRequest request) {
+        String after = request.queryParam("after").orElse(null);
+        int limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(20);
+        } catch (NumberFormatException e) {
+            return badRequest("limit 은 숫자여야 합니다.");
+        }
+        Long userId = getUserId(request);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return findPage(after, pageSize)
+                .flatMap(page -> {
+                    Map<String, Object> response = new HashMap<>();
+                    if (page.getNewsFeed().isEmpty() && after == null) {
+                        // 뉴스피드가 비어있는 경우
+                        response.put("statusCode", HttpStatus.OK.value());
+                        response.put("msg", "먼저 작성하여 소식을 알려보세요 📝");
+                    } else {
+                        // 뉴스피드가 있는 경우
+                        response.put("newsFeed", page.getNewsFeed().stream()
+                                .map(post -> markLikedByMe(post, userId))
+                                .toList());
+                        response.put("nextCursor", page.getNextCursor());
+                    }
+                    return ok().bodyValue(response);
+                })
+                .onErrorResume(CustomException.class, this::error);
+    }
+
+    // 게시글 부분 조회
+    public Mono<ServerResponse> getPost(ServerRequest request) {
+        long postId;
+        try {
+            postId = Long.parseLong(request.pathVariable("postId"));
+        } catch (NumberFormatException e) {
+            return error(new CustomException(ErrorEnum.BAD_POSTID));
+        }
+        Long userId = getUserId(request);
+        return repository.findPost(postId)
+                .map(post -> markLikedByMe(PostResponseDto.toDto(FEED_MSG, 200, post), userId))
+                .flatMap(post -> ok().bodyValue(post))
+                .switchIfEmpty(Mono.defer(() -> error(new CustomException(ErrorEnum.BAD_POSTID))));
+    }
+
+    // 댓글 조회 : 목록을 모으지 않고 DB 에서 읽는 대로 응답에 씀
+    // 클라이언트가 느리면 Netty 쓰기 버퍼가 차서 요청(demand)이 멈추고, R2DBC 드라이버도 그만큼 행 읽기를 멈춤
+    public Mono<ServerResponse> getComments(ServerRequest request) {
+        Long userId = getUserId(request);
+        Flux<CommentResponseDto> comments = repository.streamComments()
+                .map(comment -> CommentResponseDto.toDto(COMMENT_MSG, 200, comment).toBuilder()
+                        .likedByMe(userId != null && likedByMeIndex.isCommentLikedBy(comment.getId(), userId))
+                        .build());
+        Flux<DataBuffer> body = comments.switchOnFirst((first, all) -> {
+            if (first.isOnComplete()) {
+                // 댓글이 없는 경우
+                Map<String, Object> response = new HashMap<>();
+                response.put("statusCode", HttpStatus.OK.value());
+                response.put("msg", "먼저 댓글을 작성해 보세요 📝");
+                return Flux.just(toBuffer(writeJson(response)));
+            }
+            return jsonArray("newFeed_Comment", all);
+        });
+        return ok().body(BodyInserters.fromDataBuffers(body));
+    }
+
+    private Mono<PostPageResponseDto> findPage(String after, int pageSize) {
+        if (after == null || after.isBlank()) {
+            PostPageResponseDto cached = postFeedCache.firstPage(pageSize);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return toPage(repository.findFirstPage(pageSize + 1), pageSize);
+        }
+        return Mono.fromCallable(() -> PostCursor.decode(after))
+                .flatMap(cursor -> toPage(repository.findPageBefore(cursor.getId(), pageSize + 1), pageSize));
+    }
+
+    // 한 건 더 읽어 다음 페이지 존재 여부 판단 (PostService 와 같은 방식)
+    private static Mono<PostPageResponseDto> toPage(Flux<PostSummaryDto> rows, int pageSize) {
+        return rows.map(post -> PostResponseDto.toDto(FEED_MSG, 200, post))
+                .collectList()
+                .map(posts -> {
+                    boolean hasNext = posts.size() > pageSize;
+                    List<PostResponseDto> newsFeed = hasNext ? posts.subList(0, pageSize) : posts;
+                    String nextCursor = hasNext ? PostCursor.of(newsFeed.get(newsFeed.size() - 1)).encode() : null;
+                    return new PostPageResponseDto(List.copyOf(newsFeed), nextCursor);
+                });
+    }
+
+    // 캐시된 DTO 는 공유되므로 복사본에 likedByMe 표시
+    private PostResponseDto markLikedByMe(PostResponseDto post, Long userId) {
+        if (userId == null || !likedByMeIndex.isPostLikedBy(post.getId(), userId)) {
+            return post;
+        }
+        return post.toBuilder().likedByMe(true).build();
+    }
+
+    // {"필드":[항목, 항목, ...]} 를 항목마다 나눠 씀
+    private Flux<DataBuffer> jsonArray(String fieldName, Flux<?> items) {
+        return Flux.concat(
+                Mono.fromSupplier(() -> toBuffer(("{\"" + fieldName + "\":[").getBytes(StandardCharsets.UTF_8))),
+                items.index().map(item -> {
+                    byte[] json = writeJson(item.getT2());
+                    if (item.getT1() == 0) {
+                        return toBuffer(json);
+                    }
+                    byte[] withComma = new byte[json.length + 1];
+                    withComma[0] = ',';
+                    System.arraycopy(json, 0, withComma, 1, json.length);
+                    return toBuffer(withComma);
+                }),
+                Mono.fromSupplier(() -> toBuffer("]}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DataBuffer toBuffer(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private static ServerResponse.BodyBuilder ok() {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+    }
+
+    // 쿠키의 "Bearer " 토큰 : 없거나 형식이 다르면 null
+    private static String getToken(ServerRequest request, String cookieName) {
+        HttpCookie cookie = request.cookies().getFirst(cookieName);
+        if (cookie == null) {
+            return null;
+        }
+        String value = URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8);
+        return value.startsWith(JwtUtil.BEARER_PREFIX) ? value.substring(JwtUtil.BEARER_PREFIX.length()) : null;
+    }
+
+    private Claims verify(String token, ErrorEnum expired) {
+        try {
+            return jwtUtil.getUserInfoFromToken(token);
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(expired);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorEnum.NOT_VALID_TOKEN);
+        }
+    }
+
+    private static Long getUserId(ServerRequest request) {
+        return (Long) request.attributes().get(USER_ID_ATTRIBUTE);
+    }
+
+    // JwtAuthenticationEntryPoint 와 같은 응답
+    private static Mono<ServerResponse> tokenError(ErrorEnum e) {
+        return ServerResponse.status(e.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new FilterExceptionResponse(e.getStatusCode(), e.getMsg()));
+    }
+
+    // GlobalExceptionHandler 와 같은 상태 코드와 응답
+    private Mono<ServerResponse> error(CustomException ex) {
+        ErrorEnum error = ex.getStatusEnum();
+        return ServerResponse.status(GlobalExceptionHandler.statusOf(error))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(GlobalExceptionHandler.bodyOf(error));
+    }
+
+    // 잘못된 파라미터 : GlobalExceptionHandler 의 IllegalArgumentException 처리와 같은 응답
+    private static Mono<ServerResponse> badRequest(String msg) {
+        return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(CommonResponse.builder().statusCode(HttpStatus.BAD_REQUEST.value()).msg(msg).build());
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.mvm.reactive;
+
+import com.sparta.mvm.dto.CommentSummaryDto;
+import com.sparta.mvm.dto.PostSummaryDto;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * PostRepository / CommentRepository 의 projection 조회를 R2DBC 로 옮긴 읽기 전용 조회.
+ * JPA 의 @SQLRestriction 이 붙지 않으므로 삭제 표시(deleted_at)된 게시글/댓글은 직접 제외한다.
+ * 결과는 구독자가 요청한 만큼만 읽으므로, 응답을 천천히 받는 클라이언트는 DB 커서 읽기도 늦춘다.
+ */
+@Component
+@ConditionalOnProperty(name = ReactiveReadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class ReactiveReadRepository {
+    private static final String SELECT_POSTS_SQL =
+            "select p.id, u.username, p.contents, p.like_count, p.created_at, p.modified_at " +
+            "from posts p join metromusic u on u.id = p.user_id " +
+            "where p.deleted_at is null";
+    private static final String SELECT_COMMENTS_SQL =
+            "select c.id, u.username, c.comments, c.like_count, c.created_at, c.modified_at " +
+            "from comments c join metromusic u on u.id = c.user_id join posts p on p.id = c.post_id " +
+            "where c.deleted_at is null and p.deleted_at is null " +
+            "order by c.created_at desc, c.id desc";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient readDatabaseClient) {
+        this.databaseClient = readDatabaseClient;
+    }
+
+    // 뉴스피드 첫 페이지
+    public Flux<PostSummaryDto> findFirstPage(int limit) {
+        return databaseClient.sql(SELECT_POSTS_SQL + " order by p.id desc limit :limit")
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toPost)
+                .all();
+    }
+
+    // 커서 이후 페이지 : ID 가 시간순이므로 PK 만으로 seek
+    public Flux<PostSummaryDto> findPageBefore(long postId, int limit) {
+        return databaseClient.sql(SELECT_POSTS_SQL + " and p.id < :id order by p.id desc limit :limit")
+                .bind("id", postId)
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toPost)
+                .all();
+    }
+
+    public Mono<PostSummaryDto> findPost(long postId) {
+        return databaseClient.sql(SELECT_POSTS_SQL + " and p.id = :id")
+                .bind("id", postId)
+                .map(ReactiveReadRepository::toPost)
+                .one();
+    }
+
+    // 전체 댓글 : 목록을 만들지 않고 읽는 대로 흘려보냄
+    public Flux<CommentSummaryDto> streamComments() {
+        return databaseClient.sql(SELECT_COMMENTS_SQL)
+                .map(ReactiveReadRepository::toComment)
+                .all();
+    }
+
+    private static PostSummaryDto toPost(Row row, RowMetadata metadata) {
+        return new PostSummaryDto(row.get("id", Long.class), row.get("username", String.class),
+                row.get("contents", String.class), row.get("like_count", Long.class),
+                row.get("created_at", LocalDateTime.class), row.get("modified_at", LocalDateTime.class));
+    }
+
+    private static CommentSummaryDto toComment(Row row, RowMetadata metadata) {
+        return new CommentSummaryDto(row.get("id", Long.class), row.get("username", String.class),
+                row.get("comments", String.class), row.get("like_count", Long.class),
+                row.get("created_at", LocalDateTime.class), row.get("modified_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.mvm.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 reactive API 를 MVC(Tomcat) 와 다른 포트의 Netty 서버로 띄운다.
+ * 애플리케이션은 그대로 서블릿 애플리케이션이고, 읽기 요청만 로드밸런서에서 이 포트로 보내면
+ * 적은 수의 이벤트 루프 스레드가 느린 클라이언트를 스레드 점유 없이 처리한다.
+ */
+@Slf4j(topic = "ReactiveReadServer")
+@Component
+@ConditionalOnProperty(name = ReactiveReadConfig.ENABLED_PROPERTY, havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final ReactiveReadHandler handler;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final Duration shutdownTimeout;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(ReactiveReadHandler handler, ObjectMapper objectMapper,
+                              @Value("${reactive.read.port:8081}") int port,
+                              @Value("${reactive.read.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    static RouterFunction<ServerResponse> routes(ReactiveReadHandler handler) {
+        return RouterFunctions.route()
+                .GET("/posts", handler::getFeed)
+                .GET("/posts/{postId}", handler::getPost)
+                .GET("/comments", handler::getComments)
+                .filter(handler::authenticate)
+                .build();
+    }
+
+    // MVC 와 같은 ObjectMapper 로 직렬화 (Snowflake ID 문자열, 날짜 형식)
+    static HandlerStrategies strategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+    }
+
+    @Override
+    public void start() {
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes(handler), strategies(objectMapper));
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("reactive 읽기 서버 시작 : port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow(shutdownTimeout);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
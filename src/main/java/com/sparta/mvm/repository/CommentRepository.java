@@ -1,10 +1,41 @@
 package com.sparta.mvm.repository;
 
+import com.sparta.mvm.dto.CommentSummaryDto;
 import com.sparta.mvm.entity.Comment;
-import org.springframework.data.repository.CrudRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CommentRepository extends CrudRepository<Comment, Long> {
-    List<Comment> findAllByOrderByCreatedAtDesc();
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 댓글 단건 조회 : 작성자를 함께 조회
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Comment> findById(Long id);
+
+    // 작성자 ID 만 조회 : 좋아요가 반영되지 않은 원인 확인용
+    @Query("select c.user.id from Comment c where c.id = :commentId")
+    Optional<Long> findUserIdById(@Param("commentId") Long commentId);
+
+    // 댓글 전체 조회 : 작성자 이름까지 필요한 컬럼만 projection 으로 조회, 삭제된 게시글의 댓글은 제외
+    @Query("select new com.sparta.mvm.dto.CommentSummaryDto(c.id, u.username, c.comments, c.likeCount, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u join c.post p " +
+            "where p.deletedAt is null " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentSummaryDto> findAllSummaries();
+
+    // 전체 댓글 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE_HINT))
+    @Query("select new com.sparta.mvm.dto.CommentSummaryDto(c.id, u.username, c.comments, c.likeCount, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u join c.post p " +
+            "where p.deletedAt is null " +
+            "order by c.createdAt desc, c.id desc")
+    Stream<CommentSummaryDto> streamAllSummaries();
 }
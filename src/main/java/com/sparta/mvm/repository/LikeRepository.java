@@ -1,19 +1,33 @@
 package com.sparta.mvm.repository;
 
-import com.sparta.mvm.entity.Comment;
 import com.sparta.mvm.entity.Like;
-import com.sparta.mvm.entity.Post;
-import com.sparta.mvm.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
+// 좋아요/취소는 한 번의 쿼리로 처리하고 변경된 행 수(0 또는 1)를 반환
+// native 쿼리에는 @SQLRestriction 이 적용되지 않으므로 삭제된 게시글/댓글은 직접 제외
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    boolean existsByUserAndPost(User user, Post post);
+    // 게시글 좋아요 : 게시글이 있고 본인 게시글이 아닐 때만 INSERT, 이미 눌렀으면 unique 키로 무시
+    @Modifying
+    @Query(value = "insert ignore into likes (id, user_id, post_id, created_at, modified_at) " +
+            "select :id, :userId, p.id, now(6), now(6) from posts p " +
+            "where p.id = :postId and p.user_id <> :userId and p.deleted_at is null", nativeQuery = true)
+    int insertPostLike(@Param("id") Long id, @Param("userId") Long userId, @Param("postId") Long postId);
 
-    boolean existsByUserAndComment(User user, Comment comment);
+    @Modifying
+    @Query(value = "delete from likes where user_id = :userId and post_id = :postId", nativeQuery = true)
+    int deletePostLike(@Param("userId") Long userId, @Param("postId") Long postId);
 
-    Optional<Like> findByUserAndPost(User user, Post post);
+    // 댓글 좋아요 : 댓글이 있고 본인 댓글이 아닐 때만 INSERT
+    @Modifying
+    @Query(value = "insert ignore into likes (id, user_id, comment_id, created_at, modified_at) " +
+            "select :id, :userId, c.id, now(6), now(6) from comments c join posts p on p.id = c.post_id " +
+            "where c.id = :commentId and c.user_id <> :userId and c.deleted_at is null and p.deleted_at is null", nativeQuery = true)
+    int insertCommentLike(@Param("id") Long id, @Param("userId") Long userId, @Param("commentId") Long commentId);
 
-    Optional<Like> findByUserAndComment(User user, Comment comment);
+    @Modifying
+    @Query(value = "delete from likes where user_id = :userId and comment_id = :commentId", nativeQuery = true)
+    int deleteCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
 }
@@ -1,10 +1,54 @@
 package com.sparta.mvm.repository;
 
+import com.sparta.mvm.dto.PostSummaryDto;
 import com.sparta.mvm.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findAllByOrderByCreatedAtDesc();
+    // 게시글 단건 조회 : 작성자를 함께 조회
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Post> findById(Long id);
+
+    // 작성자 ID 만 조회 : 좋아요가 반영되지 않은 원인 확인용
+    @Query("select p.user.id from Post p where p.id = :postId")
+    Optional<Long> findUserIdById(@Param("postId") Long postId);
+
+    // 검색 결과 게시글 조회 : 순서는 호출하는 쪽에서 검색 점수 순으로 맞춤
+    @Query("select new com.sparta.mvm.dto.PostSummaryDto(p.id, u.username, p.contents, p.likeCount, p.createdAt, p.modifiedAt) " +
+            "from Post p join p.user u " +
+            "where p.id in :ids")
+    List<PostSummaryDto> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 뉴스피드 첫 페이지
+    @Query("select new com.sparta.mvm.dto.PostSummaryDto(p.id, u.username, p.contents, p.likeCount, p.createdAt, p.modifiedAt) " +
+            "from Post p join p.user u " +
+            "order by p.id desc")
+    List<PostSummaryDto> findFirstPage(Pageable pageable);
+
+    // 전체 게시글 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE_HINT))
+    @Query("select new com.sparta.mvm.dto.PostSummaryDto(p.id, u.username, p.contents, p.likeCount, p.createdAt, p.modifiedAt) " +
+            "from Post p join p.user u " +
+            "order by p.id desc")
+    Stream<PostSummaryDto> streamAllSummaries();
+
+    // 커서 이후 페이지 : ID 가 시간순이므로 PK 만으로 seek
+    @Query("select new com.sparta.mvm.dto.PostSummaryDto(p.id, u.username, p.contents, p.likeCount, p.createdAt, p.modifiedAt) " +
+            "from Post p join p.user u " +
+            "where p.id < :id " +
+            "order by p.id desc")
+    List<PostSummaryDto> findPageByCursor(@Param("id") Long id, Pageable pageable);
 }
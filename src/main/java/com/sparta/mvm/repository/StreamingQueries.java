@@ -0,0 +1,23 @@
+package com.sparta.mvm.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 테이블 전체를 읽는 적재 쿼리를 메모리에 한꺼번에 올리지 않고 한 행씩 읽기 위한 설정.
+ * MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다.
+ */
+public final class StreamingQueries {
+    public static final int FETCH_SIZE = Integer.MIN_VALUE;
+    // JPA 쿼리용 : @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_HINT)
+    public static final String FETCH_SIZE_HINT = "" + FETCH_SIZE;
+
+    private StreamingQueries() {
+    }
+
+    // 같은 DataSource 를 쓰되 fetch size 만 다른 JdbcTemplate
+    public static JdbcTemplate jdbcTemplate(JdbcTemplate jdbcTemplate) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        return streaming;
+    }
+}
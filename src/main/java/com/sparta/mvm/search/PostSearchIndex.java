@@ -0,0 +1,554 @@
+package com.sparta.mvm.search;
+
+import com.sparta.mvm.repository.StreamingQueries;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 본문 전문 검색용 역색인.
+ * 단어(n-gram)마다 문서 번호 목록을 보관하고, 검색 시 목록을 병합하며 BM25 점수가 높은 순으로 상위 N 건만 유지한다.
+ * 수정/삭제된 문서는 번호만 무효 처리하고, 무효 문서가 많아지면 스냅샷 스케줄러에서 목록을 한 번에 정리(compaction)한다.
+ * 스냅샷은 락을 잡은 동안 복사본만 만들고 파일 쓰기는 락 밖에서 하므로, 커밋 후 색인하는 요청이 디스크 쓰기를 기다리지 않는다.
+ * 기동 시 스냅샷 파일을 읽고 스냅샷 이후 바뀐 게시글만 다시 색인하므로 매번 전체를 재색인하지 않는다.
+ */
+@Slf4j(topic = "PostSearchIndex")
+@Component
+public class PostSearchIndex implements MeterBinder {
+    private static final int SNAPSHOT_MAGIC = 0x4D564D53;
+    private static final int SNAPSHOT_VERSION = 1;
+    // BM25 파라미터
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int COMPACT_MIN_DEAD_DOCS = 10_000;
+    // 스냅샷 저장 시각과 커밋 시각이 엇갈린 게시글까지 다시 색인하도록 여유를 둠
+    private static final Duration RECONCILE_MARGIN = Duration.ofMinutes(5);
+    private static final String SELECT_POSTS_SQL = "select id, contents, modified_at from posts where deleted_at is null";
+    private static final String SELECT_MODIFIED_POSTS_SQL = SELECT_POSTS_SQL + " and modified_at >= ?";
+    private static final String SELECT_POST_IDS_SQL = "select id from posts where deleted_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path snapshotPath;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 상태는 lock 으로 보호
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] postIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+    private LocalDateTime watermark;
+
+    // 마지막 스냅샷 이후 변경 건수
+    private final AtomicLong changes = new AtomicLong();
+    // 로딩 도중 들어온 변경 : 로딩이 끝나면 순서대로 다시 적용
+    // 잡은 채로 색인 쓰기 락을 기다릴 수 있으므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private List<Runnable> journal;
+    private volatile boolean ready;
+    private final LongAdder searchCount = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    public PostSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${search.snapshot.path:./data/post-search.snapshot}") String snapshotPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    // 서버 기동 시 스냅샷 복원 후 변경분만 반영, 스냅샷이 없으면 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        journalLock.lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            journalLock.unlock();
+        }
+        if (restore(snapshotPath)) {
+            reconcile();
+        } else {
+            rebuild();
+        }
+        journalLock.lock();
+        try {
+            journal.forEach(Runnable::run);
+            journal = null;
+        } finally {
+            journalLock.unlock();
+        }
+        compactIfNeeded();
+        ready = true;
+        log.info("검색 색인 준비 완료 : 게시글 {} 건, 단어 {} 개", getDocumentCount(), getTermCount());
+    }
+
+    public void index(Long postId, String contents, LocalDateTime modifiedAt) {
+        apply(() -> doIndex(postId, contents, modifiedAt));
+    }
+
+    public void remove(Long postId) {
+        apply(() -> doRemove(postId));
+    }
+
+    // 점수 순으로 offset 부터 limit 건의 게시글 ID
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = PostTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchHits(List.of(), 0);
+        }
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return rank(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+            searchCount.increment();
+            searchNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 정리(compaction)도 여기서 함께 실행해 요청 스레드에서는 하지 않음
+    @Scheduled(fixedDelayString = "${search.snapshot.interval-ms:600000}", initialDelayString = "${search.snapshot.interval-ms:600000}")
+    public void writeSnapshot() {
+        if (!ready || (changes.get() == 0 && Files.exists(snapshotPath))) {
+            return;
+        }
+        compactIfNeeded();
+        try {
+            save(snapshotPath);
+        } catch (IOException e) {
+            log.error("검색 색인 스냅샷 저장 실패 : {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.documents", this, PostSearchIndex::getDocumentCount)
+                .register(registry);
+        Gauge.builder("search.index.terms", this, PostSearchIndex::getTermCount)
+                .register(registry);
+        FunctionTimer.builder("search.requests", this,
+                        index -> index.searchCount.sum(),
+                        index -> index.searchNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+    }
+
+    private void apply(Runnable change) {
+        journalLock.lock();
+        try {
+            if (journal != null) {
+                journal.add(change);
+                change.run();
+                return;
+            }
+        } finally {
+            journalLock.unlock();
+        }
+        change.run();
+    }
+
+    private SearchHits rank(List<String> terms, int offset, int limit) {
+        if (liveCount == 0) {
+            return new SearchHits(List.of(), 0);
+        }
+        List<Postings> lists = new ArrayList<>(terms.size());
+        List<Float> idfs = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                // 무효 문서가 남아있을 수 있으므로 문서 빈도는 살아있는 문서 수를 넘지 않게 보정
+                int docFreq = Math.min(list.size, liveCount);
+                lists.add(list);
+                idfs.add((float) Math.log(1 + (liveCount - docFreq + 0.5) / (docFreq + 0.5)));
+            }
+        }
+        if (lists.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        float averageLength = (float) totalLength / liveCount;
+        int want = offset + limit;
+        int[] cursors = new int[lists.size()];
+        // 상위 want 건만 유지하는 최소 힙 : 점수가 같으면 나중에 색인된(최신) 문서 우선
+        Comparator<ScoredDoc> worstFirst = Comparator.<ScoredDoc>comparingDouble(scored -> scored.score)
+                .thenComparingInt(scored -> scored.doc);
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(want + 1, worstFirst);
+        long totalHits = 0;
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < cursors.length; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size) {
+                    doc = Math.min(doc, list.docs[cursors[i]]);
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                break;
+            }
+            float score = 0;
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            for (int i = 0; i < cursors.length; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size && list.docs[cursors[i]] == doc) {
+                    int freq = list.freqs[cursors[i]];
+                    score += idfs.get(i) * freq * (K1 + 1) / (freq + norm);
+                    cursors[i]++;
+                }
+            }
+            if (!live.get(doc)) {
+                continue;
+            }
+            totalHits++;
+            ScoredDoc scored = new ScoredDoc(doc, score);
+            if (top.size() < want) {
+                top.offer(scored);
+            } else if (worstFirst.compare(scored, top.peek()) > 0) {
+                top.poll();
+                top.offer(scored);
+            }
+        }
+
+        List<ScoredDoc> ranked = new ArrayList<>(top);
+        ranked.sort(worstFirst.reversed());
+        List<Long> page = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            page.add(postIds[ranked.get(i).doc]);
+        }
+        return new SearchHits(Collections.unmodifiableList(page), totalHits);
+    }
+
+    private void doIndex(Long postId, String contents, LocalDateTime modifiedAt) {
+        List<String> tokens = PostTokenizer.tokenize(contents);
+        Map<String, Integer> freqs = new HashMap<>();
+        tokens.forEach(token -> freqs.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.remove(postId);
+            if (previous != null) {
+                kill(previous);
+            }
+            int doc = docCount++;
+            if (docCount > postIds.length) {
+                postIds = Arrays.copyOf(postIds, postIds.length * 2);
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+            }
+            postIds[doc] = postId;
+            lengths[doc] = tokens.size();
+            live.set(doc);
+            liveCount++;
+            totalLength += tokens.size();
+            ordinals.put(postId, doc);
+            freqs.forEach((term, freq) -> postings.computeIfAbsent(term, key -> new Postings()).add(doc, freq));
+            if (modifiedAt != null && (watermark == null || modifiedAt.isAfter(watermark))) {
+                watermark = modifiedAt;
+            }
+            changes.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void doRemove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = ordinals.remove(postId);
+            if (doc != null) {
+                kill(doc);
+                changes.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void kill(int doc) {
+        live.clear(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+    }
+
+    // 무효 문서가 살아있는 문서의 1/4 을 넘으면 문서 번호를 다시 매기고 목록에서 제거
+    void compactIfNeeded() {
+        lock.writeLock().lock();
+        try {
+            int dead = docCount - liveCount;
+            if (dead >= COMPACT_MIN_DEAD_DOCS && dead >= liveCount / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (live.get(doc)) {
+                remap[doc] = next;
+                postIds[next] = postIds[doc];
+                lengths[next] = lengths[doc];
+                next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        postings.values().removeIf(list -> {
+            int size = 0;
+            for (int i = 0; i < list.size; i++) {
+                int doc = remap[list.docs[i]];
+                if (doc >= 0) {
+                    list.docs[size] = doc;
+                    list.freqs[size] = list.freqs[i];
+                    size++;
+                }
+            }
+            list.size = size;
+            return size == 0;
+        });
+        ordinals.replaceAll((postId, doc) -> remap[doc]);
+        live.clear();
+        live.set(0, next);
+        log.info("검색 색인 정리 : 무효 문서 {} 건 제거", docCount - next);
+        docCount = next;
+    }
+
+    private void rebuild() {
+        StreamingQueries.jdbcTemplate(jdbcTemplate).query(SELECT_POSTS_SQL, indexRow());
+    }
+
+    // 스냅샷 이후 수정된 게시글 재색인, DB 에서 삭제된 게시글 제거
+    private void reconcile() {
+        JdbcTemplate streaming = StreamingQueries.jdbcTemplate(jdbcTemplate);
+        LocalDateTime since;
+        lock.readLock().lock();
+        try {
+            since = watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (since == null) {
+            streaming.query(SELECT_POSTS_SQL, indexRow());
+        } else {
+            streaming.query(SELECT_MODIFIED_POSTS_SQL, indexRow(), since.minus(RECONCILE_MARGIN));
+        }
+
+        Roaring64Bitmap existing = new Roaring64Bitmap();
+        streaming.query(SELECT_POST_IDS_SQL, (RowCallbackHandler) rs -> existing.addLong(rs.getLong(1)));
+        List<Long> stale = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            ordinals.keySet().forEach(postId -> {
+                if (!existing.contains(postId)) {
+                    stale.add(postId);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        stale.forEach(this::doRemove);
+    }
+
+    private RowCallbackHandler indexRow() {
+        return rs -> doIndex(rs.getLong("id"), rs.getString("contents"), rs.getObject("modified_at", LocalDateTime.class));
+    }
+
+    // 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷은 유지
+    // 읽기 락은 복사본을 만드는 동안만 잡고, 파일 쓰기는 락을 푼 뒤에 함
+    void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        long written;
+        String savedWatermark;
+        int savedDocCount;
+        long[] savedPostIds;
+        int[] savedLengths;
+        BitSet savedLive;
+        List<Map.Entry<String, Postings>> savedPostings;
+        lock.readLock().lock();
+        try {
+            written = changes.get();
+            savedWatermark = watermark == null ? "" : watermark.toString();
+            savedDocCount = docCount;
+            savedPostIds = Arrays.copyOf(postIds, docCount);
+            savedLengths = Arrays.copyOf(lengths, docCount);
+            savedLive = (BitSet) live.clone();
+            savedPostings = new ArrayList<>(postings.size());
+            postings.forEach((term, list) -> savedPostings.add(Map.entry(term, list.copy())));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(savedWatermark);
+            out.writeInt(savedDocCount);
+            for (int doc = 0; doc < savedDocCount; doc++) {
+                out.writeLong(savedPostIds[doc]);
+                out.writeInt(savedLengths[doc]);
+                out.writeBoolean(savedLive.get(doc));
+            }
+            out.writeInt(savedPostings.size());
+            for (Map.Entry<String, Postings> entry : savedPostings) {
+                Postings list = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(list.size);
+                for (int i = 0; i < list.size; i++) {
+                    out.writeInt(list.docs[i]);
+                    out.writeInt(list.freqs[i]);
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // 복사본을 만든 뒤 들어온 변경은 다음 스냅샷에 포함되도록 남겨 둠
+        changes.addAndGet(-written);
+        log.info("검색 색인 스냅샷 저장 : {}", path);
+    }
+
+    boolean restore(Path path) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("검색 색인 스냅샷 형식이 달라 전체 색인합니다 : {}", path);
+                return false;
+            }
+            String savedWatermark = in.readUTF();
+            int savedDocCount = in.readInt();
+            long[] savedPostIds = new long[Math.max(savedDocCount, 1024)];
+            int[] savedLengths = new int[savedPostIds.length];
+            BitSet savedLive = new BitSet(savedDocCount);
+            for (int doc = 0; doc < savedDocCount; doc++) {
+                savedPostIds[doc] = in.readLong();
+                savedLengths[doc] = in.readInt();
+                if (in.readBoolean()) {
+                    savedLive.set(doc);
+                }
+            }
+            int termCount = in.readInt();
+            Map<String, Postings> savedPostings = new HashMap<>(termCount * 4 / 3 + 1);
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int size = in.readInt();
+                int[] docs = new int[size];
+                int[] freqs = new int[size];
+                for (int i = 0; i < size; i++) {
+                    docs[i] = in.readInt();
+                    freqs[i] = in.readInt();
+                }
+                savedPostings.put(term, new Postings(docs, freqs, size));
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                postings.putAll(savedPostings);
+                ordinals.clear();
+                live.clear();
+                live.or(savedLive);
+                postIds = savedPostIds;
+                lengths = savedLengths;
+                docCount = savedDocCount;
+                liveCount = 0;
+                totalLength = 0;
+                for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                    ordinals.put(postIds[doc], doc);
+                    liveCount++;
+                    totalLength += lengths[doc];
+                }
+                watermark = savedWatermark.isEmpty() ? null : LocalDateTime.parse(savedWatermark);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("검색 색인 스냅샷 복원 : 게시글 {} 건", liveCount);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못해 전체 색인합니다 : {}", path, e);
+            return false;
+        }
+    }
+
+    private static final class ScoredDoc {
+        final int doc;
+        final float score;
+
+        ScoredDoc(int doc, float score) {
+            this.doc = doc;
+            this.score = score;
+        }
+    }
+}
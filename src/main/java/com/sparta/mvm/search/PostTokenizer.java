@@ -0,0 +1,68 @@
+package com.sparta.mvm.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 본문 토크나이저.
+ * 한글/한자/가나처럼 띄어쓰기로 단어를 나누기 어려운 문자는 2-gram 으로, 영문/숫자는 단어 단위로 자른다.
+ * 형태소 분석 없이도 "뉴스피드" 검색어가 "뉴스피드를", "오늘뉴스피드" 본문과 일치한다.
+ */
+public final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            int start = i;
+            if (isNgramChar(codePoint)) {
+                while (i < length && isNgramChar(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                addBigrams(normalized.substring(start, i), tokens);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                while (i < length) {
+                    int next = normalized.codePointAt(i);
+                    if (!Character.isLetterOrDigit(next) || isNgramChar(next)) {
+                        break;
+                    }
+                    i += Character.charCount(next);
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isNgramChar(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    // 한 글자짜리는 그대로, 두 글자 이상은 인접한 두 글자씩
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
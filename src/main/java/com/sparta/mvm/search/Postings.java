@@ -0,0 +1,37 @@
+package com.sparta.mvm.search;
+
+import java.util.Arrays;
+
+// 한 단어의 역색인 목록 : 문서 번호 오름차순으로 (문서 번호, 등장 횟수)를 primitive 배열에 보관
+final class Postings {
+    int[] docs;
+    int[] freqs;
+    int size;
+
+    Postings() {
+        this(new int[4], new int[4], 0);
+    }
+
+    Postings(int[] docs, int[] freqs, int size) {
+        this.docs = docs;
+        this.freqs = freqs;
+        this.size = size;
+    }
+
+    // 스냅샷 저장용 복사본 : 락을 풀고 파일에 쓰는 동안 색인이 바뀌어도 영향 없음
+    Postings copy() {
+        return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(freqs, size), size);
+    }
+
+    // 문서 번호는 항상 증가하므로 뒤에 붙이기만 해도 정렬이 유지됨
+    void add(int doc, int freq) {
+        if (size == docs.length) {
+            int capacity = size + (size >> 1) + 1;
+            docs = Arrays.copyOf(docs, capacity);
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+        docs[size] = doc;
+        freqs[size] = freq;
+        size++;
+    }
+}
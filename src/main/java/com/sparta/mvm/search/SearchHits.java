@@ -0,0 +1,14 @@
+package com.sparta.mvm.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과 : 점수 순 게시글 ID 와 전체 일치 건수
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+    private List<Long> postIds;
+    private long totalHits;
+}
@@ -0,0 +1,57 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 요청의 로그인 사용자.
+ * 인증 필터가 요청마다 SecurityContext 에 넣어 둔 principal(토큰의 uid 클레임과 같은 ID)을 읽으므로 DB 를 조회하지 않는다.
+ * 게시글/댓글 작성자처럼 FK 만 필요하면 getReference() 로 SELECT 없는 지연 참조를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUser {
+    private final UserRepository userRepository;
+
+    // 로그인한 사용자 ID : 인증되지 않았으면 USER_NOT_FOUND
+    public Long getId() {
+        Long userId = getIdOrNull();
+        if (userId == null) {
+            throw new CustomException(ErrorEnum.USER_NOT_FOUND);
+        }
+        return userId;
+    }
+
+    // 로그인한 사용자 ID : 인증되지 않았으면 null
+    public Long getIdOrNull() {
+        UserDetailsImpl principal = getPrincipal();
+        return principal == null ? null : principal.getUser().getId();
+    }
+
+    public String getUsername() {
+        UserDetailsImpl principal = getPrincipal();
+        if (principal == null) {
+            throw new CustomException(ErrorEnum.USER_NOT_FOUND);
+        }
+        return principal.getUsername();
+    }
+
+    // FK 지정용 지연 참조 : 식별자만 가진 프록시라 username 등 다른 값을 읽으면 그때 SELECT 가 나감
+    public User getReference() {
+        return userRepository.getReferenceById(getId());
+    }
+
+    private UserDetailsImpl getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.mvm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리에 두는 리프레시 토큰 저장소 (refresh-token.store=memory).
+ * 토큰 해시 -> (사용자 ID, 만료 시각) 을 최대 max-size 개 보관하고 항목마다 토큰 만료 시각에 제거한다.
+ * 만료된 항목은 조회할 때도 걸러내지만, 조회되지 않는 항목도 sweep-interval 마다 정리해 메모리를 돌려받는다.
+ * 개수를 넘으면 오래 쓰이지 않은 토큰부터 제거되고, 해당 기기는 다시 로그인해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, MeterBinder {
+
+    private record Entry(Long userId, long expiresAtMillis) {
+    }
+
+    private final Clock clock;
+    private final Cache<String, Entry> tokens;
+
+    public InMemoryRefreshTokenStore(Clock clock, @Value("${refresh-token.memory.max-size:100000}") long maxSize) {
+        this.clock = clock;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAtMillis() - clock.millis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, Instant expiresAt) {
+        tokens.put(RefreshTokenStore.hash(refreshToken), new Entry(userId, expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public boolean exists(Long userId, String refreshToken) {
+        Entry entry = tokens.getIfPresent(RefreshTokenStore.hash(refreshToken));
+        return entry != null && entry.userId().equals(userId) && entry.expiresAtMillis() > clock.millis();
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        tokens.invalidate(RefreshTokenStore.hash(refreshToken));
+    }
+
+    // 탈퇴 시에만 호출되므로 전체를 훑음
+    @Override
+    public void deleteAll(Long userId) {
+        tokens.asMap().values().removeIf(entry -> entry.userId().equals(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.sweep-interval-ms:60000}")
+    public void sweep() {
+        tokens.cleanUp();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registry.gauge("refresh-tokens.size", tokens, Cache::estimatedSize);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.mvm.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * refresh_tokens 테이블에 두는 리프레시 토큰 저장소 (refresh-token.store=jdbc, 기본값).
+ * 재발급 확인은 PK(token_hash) 조회 한 번이고, 사용자 테이블(metromusic)은 읽지도 잠그지도 않는다.
+ * 만료된 행은 조회에서 제외하고, sweep-interval 마다 chunk-size 행씩 나눠 지운다.
+ */
+@Slf4j(topic = "JdbcRefreshTokenStore")
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+    // 같은 사용자가 같은 초에 다시 로그인하면 토큰 문자열이 같으므로 덮어씀
+    private static final String INSERT_SQL = "insert into refresh_tokens (token_hash, user_id, expires_at) values (?, ?, ?) " +
+            "on duplicate key update user_id = values(user_id), expires_at = values(expires_at)";
+    private static final String EXISTS_SQL = "select count(*) from refresh_tokens where token_hash = ? and user_id = ? and expires_at > ?";
+    private static final String DELETE_SQL = "delete from refresh_tokens where token_hash = ?";
+    private static final String DELETE_ALL_SQL = "delete from refresh_tokens where user_id = ?";
+    private static final String DELETE_EXPIRED_SQL = "delete from refresh_tokens where expires_at <= ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate, Clock clock,
+                                 @Value("${refresh-token.jdbc.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_SQL, RefreshTokenStore.hash(refreshToken), userId, Timestamp.from(expiresAt));
+    }
+
+    @Override
+    public boolean exists(Long userId, String refreshToken) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class,
+                RefreshTokenStore.hash(refreshToken), userId, Timestamp.from(clock.instant()));
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        jdbcTemplate.update(DELETE_SQL, RefreshTokenStore.hash(refreshToken));
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        jdbcTemplate.update(DELETE_ALL_SQL, userId);
+    }
+
+    // 만료된 토큰 정리 : 한 번에 많은 행을 잠그지 않도록 chunk-size 씩 지움
+    @Scheduled(fixedDelayString = "${refresh-token.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            Timestamp now = Timestamp.from(clock.instant());
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, now, chunkSize);
+            } while (deleted == chunkSize);
+        } catch (DataAccessException e) {
+            log.warn("만료된 리프레시 토큰 정리 실패 : 다음 실행에서 다시 시도합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.sparta.mvm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 실패 횟수를 username, 클라이언트 IP 별로 세어 무차별 대입을 막는다.
+ * 실패는 슬라이딩 윈도(window) 근사로 센다 : 직전 구간의 실패 수를 지난 비율만큼 줄여 현재 구간 실패 수에 더함.
+ * 한도(max-failures)에 닿으면 그 뒤 실패마다 차단 시간을 두 배로 늘리고(base-backoff ~ max-backoff),
+ * 차단 중인 요청은 사용자 조회와 비밀번호 검증(BCrypt) 전에 TOO_MANY_LOGIN_ATTEMPTS(429)로 거절한다.
+ * 키별 카운터는 각자 잠그므로 서로 다른 키끼리는 경합하지 않고, 최대 max-tracked 개까지만 보관한다.
+ * 로그인에 성공하면 해당 username 의 기록만 지운다 (같은 IP 의 다른 계정 시도는 계속 셈).
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+    private final Clock clock;
+    private final Cache<String, Window> byUsername;
+    private final Cache<String, Window> byIp;
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerIp;
+    private final long windowMillis;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedByUsername = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+
+    public LoginThrottle(Clock clock,
+                         @Value("${login.throttle.username.max-failures:5}") int maxFailuresPerUsername,
+                         @Value("${login.throttle.ip.max-failures:50}") int maxFailuresPerIp,
+                         @Value("${login.throttle.window:15m}") Duration window,
+                         @Value("${login.throttle.base-backoff:1s}") Duration baseBackoff,
+                         @Value("${login.throttle.max-backoff:15m}") Duration maxBackoff,
+                         @Value("${login.throttle.max-tracked:100000}") long maxTracked) {
+        this.clock = clock;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowMillis = window.toMillis();
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        // 윈도 두 구간 또는 최대 차단 시간 동안 실패가 없으면 기록이 필요 없음
+        Duration idle = window.multipliedBy(2).compareTo(maxBackoff) > 0 ? window.multipliedBy(2) : maxBackoff;
+        this.byUsername = newCache(maxTracked, idle);
+        this.byIp = newCache(maxTracked, idle);
+    }
+
+    private Cache<String, Window> newCache(long maxTracked, Duration idle) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterAccess(idle)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    // 로그인 시도 전 확인 : 차단 중이면 예외
+    public void check(String username, String clientIp) {
+        long now = clock.millis();
+        if (isBlocked(byIp, clientIp, now)) {
+            rejectedByIp.increment();
+            throw new CustomException(ErrorEnum.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (isBlocked(byUsername, username, now)) {
+            rejectedByUsername.increment();
+            throw new CustomException(ErrorEnum.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long now = clock.millis();
+        failures.increment();
+        byUsername.get(key(username), k -> new Window(now)).recordFailure(now, maxFailuresPerUsername);
+        byIp.get(key(clientIp), k -> new Window(now)).recordFailure(now, maxFailuresPerIp);
+    }
+
+    public void recordSuccess(String username) {
+        byUsername.invalidate(key(username));
+    }
+
+    private boolean isBlocked(Cache<String, Window> windows, String key, long now) {
+        Window window = windows.getIfPresent(key(key));
+        return window != null && window.isBlocked(now);
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value;
+    }
+
+    // 키 하나의 실패 기록 : 현재/직전 구간 실패 수와 차단 종료 시각
+    private final class Window {
+        private long start;
+        private long current;
+        private long previous;
+        private long blockedUntil;
+
+        Window(long now) {
+            this.start = now;
+        }
+
+        synchronized boolean isBlocked(long now) {
+            return now < blockedUntil;
+        }
+
+        synchronized void recordFailure(long now, int maxFailures) {
+            slide(now);
+            current++;
+            long elapsed = now - start;
+            double estimated = previous * (1.0 - (double) elapsed / windowMillis) + current;
+            long over = (long) Math.ceil(estimated) - maxFailures;
+            if (over >= 0) {
+                // 한도를 넘은 만큼 차단 시간을 두 배씩 늘림
+                long backoff = baseBackoffMillis << Math.min(over, 30);
+                blockedUntil = now + Math.min(backoff, maxBackoffMillis);
+            }
+        }
+
+        private void slide(long now) {
+            long elapsedWindows = (now - start) / windowMillis;
+            if (elapsedWindows == 1) {
+                previous = current;
+                current = 0;
+                start += windowMillis;
+            } else if (elapsedWindows > 1) {
+                previous = 0;
+                current = 0;
+                start = now;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("login.throttle.failures", failures, LongAdder::sum).register(registry);
+        FunctionCounter.builder("login.throttle.rejected", rejectedByUsername, LongAdder::sum)
+                .tag("key", "username").register(registry);
+        FunctionCounter.builder("login.throttle.rejected", rejectedByIp, LongAdder::sum)
+                .tag("key", "ip").register(registry);
+        Gauge.builder("login.throttle.tracked", byUsername, Cache::estimatedSize).tag("key", "username").register(registry);
+        Gauge.builder("login.throttle.tracked", byIp, Cache::estimatedSize).tag("key", "ip").register(registry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증(BCrypt) 전용 스레드 풀.
+ * 한 번에 수십~수백 ms 의 CPU 를 쓰므로 요청 스레드에서 돌리면 로그인이 몰릴 때 피드 조회 같은 가벼운 요청까지 밀린다.
+ * CPU 코어 수(threads)만큼만 동시에 계산하고, 대기열(queue-capacity)이 차면 기다리지 않고 바로 SERVER_BUSY(503)로 거절한다.
+ * 결과는 CompletableFuture 로 돌려주므로 컨트롤러가 그대로 반환하면 요청 스레드는 계산을 기다리지 않는다.
+ * 이어서 실행하는 작업(thenApply 등)도 이 풀의 스레드에서 실행되므로, DB 접근이나 응답 작성은 thenApplyAsync 로 다른 실행기에 넘긴다.
+ */
+@Component
+public class PasswordHasher implements MeterBinder, DisposableBean {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    // 지표 등록 전에는 null : 기록하지 않음
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${password.hasher.threads:0}") int threads,
+                          @Value("${password.hasher.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // 대기열이 가득 차면 호출한 스레드에서 바로 예외
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer timer) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    if (timer != null) {
+                        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new CustomException(ErrorEnum.SERVER_BUSY);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hasher.duration").tag("op", "encode").register(registry);
+        matchesTimer = Timer.builder("password.hasher.duration").tag("op", "matches").register(registry);
+        Gauge.builder("password.hasher.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("password.hasher.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        FunctionCounter.builder("password.hasher.rejected", rejected, LongAdder::sum)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
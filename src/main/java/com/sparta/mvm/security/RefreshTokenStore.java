@@ -0,0 +1,35 @@
+package com.sparta.mvm.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 발급한 리프레시 토큰 목록. 기기(로그인)마다 토큰을 하나씩 저장하므로 한 사용자가 여러 기기에서 로그인할 수 있다.
+ * 토큰 원문이 아닌 SHA-256 해시만 저장하고, 만료 시각이 지난 토큰은 없는 것으로 본다.
+ * refresh-token.store 로 구현을 고른다 : jdbc(기본, 서버 여러 대가 공유), memory(단일 서버, 재시작 시 모두 로그아웃).
+ */
+public interface RefreshTokenStore {
+
+    void save(Long userId, String refreshToken, Instant expiresAt);
+
+    // 재발급 시 확인 : 해당 사용자에게 발급되었고 아직 만료/삭제되지 않은 토큰인지
+    boolean exists(Long userId, String refreshToken);
+
+    // 로그아웃 : 이 기기의 토큰만 삭제
+    void delete(String refreshToken);
+
+    // 탈퇴 : 사용자의 모든 기기 토큰 삭제
+    void deleteAll(Long userId);
+
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.mvm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.mvm.jwt.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃/탈퇴한 사용자의 토큰을 거부하기 위한 메모리 목록.
+ * 토큰 claim 만으로 인증하면 DB 를 보지 않으므로, 사용자 ID 별로 "이 시각 이전에 발급된 토큰은 거부"를 기록해 두고 인증 필터에서 확인한다.
+ * 기록은 액세스 토큰 유효 시간이 지나면 사라진다. 그 전에 발급된 액세스 토큰은 어차피 만료되었기 때문.
+ * 토큰 발급 시각(iat)은 초 단위라 로그아웃과 같은 초에 다시 로그인해 받은 토큰도 거부되며, 이 경우 다시 로그인해야 한다.
+ * 서버(인스턴스)마다 따로 가지는 목록이므로 여러 대로 운영하면 로그아웃/탈퇴 요청을 받은 서버에만 즉시 반영된다.
+ */
+@Component
+public class TokenDenyList implements MeterBinder {
+    // 탈퇴 : 발급 시각과 관계없이 모든 토큰 거부
+    private static final long ALL_TOKENS = Long.MAX_VALUE;
+
+    private final Clock clock;
+    // 사용자 ID -> 이 시각(epoch 초) 이하에 발급된 토큰 거부
+    private final Cache<Long, Long> revokedBefore;
+
+    public TokenDenyList(Clock clock, @Value("${jwt.deny-list.max-size:100000}") long maxSize) {
+        this.clock = clock;
+        this.revokedBefore = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(JwtUtil.TOKEN_TIME))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    // 로그아웃 : 지금까지 발급된 토큰 거부
+    public void revokeIssuedUntilNow(Long userId) {
+        revokedBefore.put(userId, clock.instant().getEpochSecond());
+    }
+
+    // 탈퇴 : 이후 발급되는 토큰까지 모두 거부
+    public void revokeAll(Long userId) {
+        revokedBefore.put(userId, ALL_TOKENS);
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long revokedAt = revokedBefore.getIfPresent(userId);
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() / 1000 <= revokedAt);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registry.gauge("jwt.deny-list.size", revokedBefore, Cache::estimatedSize);
+    }
+}
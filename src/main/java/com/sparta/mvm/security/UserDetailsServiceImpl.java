@@ -1,7 +1,7 @@
 package com.sparta.mvm.security;
 
+import com.sparta.mvm.cache.UserCache;
 import com.sparta.mvm.entity.User;
-import com.sparta.mvm.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,11 +12,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    // 인증된 요청마다 호출되므로 DB 대신 캐시에서 조회
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username).orElseThrow(() ->
+        User user = userCache.findByUsername(username).orElseThrow(() ->
                 new IllegalArgumentException("유저정보가 없습니다"));
 
         return new UserDetailsImpl(user);
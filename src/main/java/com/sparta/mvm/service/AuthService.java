@@ -1,66 +1,98 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.UserCache;
 import com.sparta.mvm.dto.LoginRequestDto;
 import com.sparta.mvm.entity.User;
 import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.exception.ErrorEnum;
 import com.sparta.mvm.jwt.JwtUtil;
-import com.sparta.mvm.repository.UserRepository;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.security.LoginThrottle;
+import com.sparta.mvm.security.PasswordHasher;
+import com.sparta.mvm.security.RefreshTokenStore;
+import com.sparta.mvm.security.TokenDenyList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
-    private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
-
-    // 사용자의 아이디와 비밀번호를 검증하고, 성공적으로 인증 시 JWT 토큰을 생성하여 사용자에게 반환.
-    @Transactional
-    public void login(LoginRequestDto loginRequestDto, HttpServletResponse response, HttpServletRequest request) {
-
-        User user = userRepository.findByUsername(loginRequestDto.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid username or password"));
-
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) { // 사용자가 입력한 비밀번호와 DB에 저장된 비밀번호를 비교.
-            // => 비밀번호 일치하지 않을 시 예외를 던져 로그인 시도가 실패함을 문장을 통해서 알림.
-            throw new IllegalArgumentException("Invalid username or password");
+    private final TokenDenyList tokenDenyList;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CurrentUser currentUser;
+    private final UserCache userCache;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+    // 비밀번호 검증 이후 작업(실패 기록, 토큰 저장)을 실행할 요청 처리용 실행기 : BCrypt 풀은 계산에만 씀
+    @Qualifier("applicationTaskExecutor")
+    private final Executor requestExecutor;
+
+    // 사용자의 아이디와 비밀번호를 검증하고, 성공적으로 인증 시 JWT 토큰을 생성하여 쿠키(Set-Cookie 헤더)에 담음.
+    // 사용자 조회는 한 번(캐시), 비밀번호 검증(BCrypt)은 PasswordHasher 풀에서 한 번만 실행
+    // 검증 결과 처리와 리프레시 토큰 저장(DB)은 요청 처리용 실행기에서 이어서 실행해 BCrypt 풀이 DB 를 기다리지 않게 함
+    // 실패가 많은 username / IP 는 조회와 검증 전에 거절
+    public CompletableFuture<HttpHeaders> login(LoginRequestDto loginRequestDto, String clientIp) {
+        String username = loginRequestDto.getUsername();
+        loginThrottle.check(username, clientIp);
+
+        User user = userCache.findByUsername(username).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(username, clientIp);
+            throw new CustomException(ErrorEnum.USER_NOT_FOUND);
         }
-        // 사용자 상태 검증
-        if (user.getUserStatus().equals(UserStatusEnum.USER_RESIGN)) {
-            request.setAttribute("test", ErrorEnum.BAD_RESIGN);
-            throw new IllegalArgumentException("Invalid username or password");
-        }
-
-        // Refresh Token 생성 및 쿠키 저장
-        String refreshToken = jwtUtil.createRefreshToken(loginRequestDto.getUsername());
-        jwtUtil.addRefreshJwtToCookie(refreshToken, response);
 
-        // Access Token 생성 및 쿠키 저장
-        String token = jwtUtil.createAccessToken(loginRequestDto.getUsername());
-        jwtUtil.addAccessJwtToCookie(token, response);
+        return passwordHasher.matches(loginRequestDto.getPassword(), user.getPassword()).thenApplyAsync(matched -> {
+            // 비밀번호 검증
+            if (!matched) {
+                loginThrottle.recordFailure(username, clientIp);
+                throw new CustomException(ErrorEnum.BAD_PASSWORD);
+            }
+            loginThrottle.recordSuccess(username);
+            // 사용자 상태 검증
+            if (user.getUserStatus().equals(UserStatusEnum.USER_RESIGN)) {
+                throw new CustomException(ErrorEnum.BAD_RESIGN);
+            }
+            return issueTokens(user);
+        }, requestExecutor);
+    }
 
-        user.setRefreshToken(refreshToken); // 생성된 리프레시 토큰을 사용자의 DB 레코드에 저장. => 나중에 사용자가 리프레시 토큰을 사용할 때 검증하기 위해 필요.
+    // 비동기 응답이므로 HttpServletResponse 에 직접 쓰지 않고 쿠키를 헤더로 돌려줌
+    private HttpHeaders issueTokens(User user) {
+        // Refresh Token, Access Token 생성
+        String refreshToken = jwtUtil.createRefreshToken(user);
+        String token = jwtUtil.createAccessToken(user);
+
+        // 생성된 리프레시 토큰을 저장소에 기록. => 나중에 사용자가 리프레시 토큰을 사용할 때 검증하기 위해 필요.
+        // 기기(로그인)마다 따로 저장되므로 다른 기기의 로그인은 유지됨
+        String refreshTokenValue = jwtUtil.substringToken(refreshToken);
+        Claims refreshClaims = jwtUtil.getUserInfoFromToken(refreshTokenValue);
+        refreshTokenStore.save(user.getId(), refreshTokenValue, refreshClaims.getExpiration().toInstant());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.SET_COOKIE, jwtUtil.createJwtCookie(refreshToken, JwtUtil.REFRESH_TOKEN_HEADER).toString());
+        headers.add(HttpHeaders.SET_COOKIE, jwtUtil.createJwtCookie(token, JwtUtil.ACCESS_TOKEN_HEADER).toString());
+        return headers;
     }
 
     // 액세스 토큰 재발급
     public String tokenReissuance(String refreshToken, HttpServletResponse res) throws IOException {
-        String username = jwtUtil.getUserInfoFromToken(refreshToken).getSubject(); // 리프레스 토큰에서 사용자 ID를 추출.
+        Claims claims = jwtUtil.getUserInfoFromToken(refreshToken);
+        Long userId = jwtUtil.getUserId(claims); // 리프레스 토큰에서 사용자 ID를 추출.
 
-        // 추출한 사용자 ID를 기반으로 DB에서 해당 사용자 검색. / 사용자가 DB에 없다면, 예외를 던져 처리.
-        User user = userRepository.findByUsername(username).orElseThrow(() -> new IllegalArgumentException());
-
-        String userTokenValue = jwtUtil.substringToken(user.getRefreshToken());
-        if (userTokenValue.equals(refreshToken)) {
-            String newToken = jwtUtil.createAccessToken(username);
+        // 저장소에 있는(로그아웃/탈퇴로 삭제되지 않은) 토큰이면 사용자 조회 없이 토큰 claim 으로 새 액세스 토큰 발급
+        if (userId != null && refreshTokenStore.exists(userId, refreshToken)) {
+            String newToken = jwtUtil.createAccessToken(claims);
             jwtUtil.addAccessJwtToCookie(newToken, res); // 생성된 엑세스 토큰을 HTTP 응답의 쿠키에 추가하여 클라이언트에게 반환.
             return newToken; // 생성된 엑세스 토큰 반환.
         }
@@ -69,20 +101,12 @@ public class AuthService {
 
     // 사용자의 토큰을 삭제하여 로그아웃 처리
     public void invalidateTokens(HttpServletResponse response, HttpServletRequest request) {
-        // 사용자 이름으로 사용자를 데이터베이스에서 찾습니다.
-
-        String value = jwtUtil.getAccessTokenFromRequest(request);
-        value = jwtUtil.substringToken(value);
-        String username = jwtUtil.getUserInfoFromToken(value).getSubject();
-
-
-        User user = userRepository.findByUsername(username)
-                // 만약 사용자를 찾지 못하면 예외를 던집니다.
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 사용자의 리프레시 토큰을 삭제하여 토큰을 무효화합니다.
+        // 이 기기의 리프레시 토큰을 저장소에서 삭제하여 토큰을 무효화합니다.
+        String refreshToken = jwtUtil.substringToken(jwtUtil.getRefreshTokenFromRequest(request));
+        refreshTokenStore.delete(refreshToken);
         jwtUtil.initJwtCookie(response);
-        user.setRefreshToken(null);
-        userRepository.save(user);
+        // 토큰 claim 으로 인증하므로 이미 발급된 액세스 토큰은 거부 목록으로 막음
+        // 다른 기기는 리프레시 토큰이 남아 있으므로 재발급으로 이어서 사용
+        tokenDenyList.revokeIssuedUntilNow(currentUser.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.dto.BulkItemResultDto;
+import com.sparta.mvm.dto.BulkResponseDto;
+import com.sparta.mvm.dto.CommentRequestDto;
+import com.sparta.mvm.dto.PostRequestDto;
+import com.sparta.mvm.dto.PostResponseDto;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.id.Snowflake;
+import com.sparta.mvm.repository.PostRepository;
+import com.sparta.mvm.search.PostSearchIndex;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.trending.TrendingPosts;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글/댓글 일괄 등록.
+ * 작성자는 인증 정보에서 읽고(DB 조회 없음), 검증을 통과한 항목만 chunk-size 단위 트랜잭션으로 나눠 JDBC 배치 INSERT 한다.
+ * ID 는 Snowflake 로 미리 발급해 두므로 생성된 키를 돌려받을 필요 없이 JdbcTemplate 배치 INSERT 한 번으로 보낸다.
+ * 한 chunk 가 실패해도 이미 커밋된 chunk 는 유지되고, 결과는 항목별로 돌려준다.
+ */
+@Slf4j(topic = "BulkImportService")
+@Service
+public class BulkImportService {
+    private static final String INSERT_POST_SQL =
+            "insert into posts (id, contents, user_id, like_count, created_at, modified_at) values (?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_COMMENT_SQL =
+            "insert into comments (id, comments, post_id, user_id, like_count, created_at, modified_at) values (?, ?, ?, ?, 0, ?, ?)";
+    private static final String FEED_MSG = "게시글 조회 성공 🎉";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final CurrentUser currentUser;
+    private final PostRepository postRepository;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPosts trendingPosts;
+    private final ResourceVersions resourceVersions;
+    private final Clock clock;
+    private final Snowflake snowflake;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Validator validator,
+                             CurrentUser currentUser, PostRepository postRepository, PostFeedCache postFeedCache,
+                             PostSearchIndex postSearchIndex, TrendingPosts trendingPosts, ResourceVersions resourceVersions,
+                             Clock clock, Snowflake snowflake,
+                             @Value("${bulk.max-items:5000}") int maxItems,
+                             @Value("${bulk.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.currentUser = currentUser;
+        this.postRepository = postRepository;
+        this.postFeedCache = postFeedCache;
+        this.postSearchIndex = postSearchIndex;
+        this.trendingPosts = trendingPosts;
+        this.resourceVersions = resourceVersions;
+        // JDBC 로 직접 넣는 created_at/modified_at 은 JPA Auditing(LocalDateTime.now()) 과 같은 시스템 기본 시간대로 기록
+        this.clock = clock.withZone(ZoneId.systemDefault());
+        this.snowflake = snowflake;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkResponseDto importPosts(List<PostRequestDto> requests) {
+        checkSize(requests);
+        long userId = currentUser.getId();
+        String username = currentUser.getUsername();
+        BulkItemResultDto[] results = new BulkItemResultDto[requests.size()];
+        List<Integer> valid = validate(requests, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> inserted = insert(INSERT_POST_SQL, chunk.size(), (ps, i, id) -> {
+                        ps.setLong(1, id);
+                        ps.setString(2, requests.get(chunk.get(i)).getContents());
+                        ps.setLong(3, userId);
+                        ps.setTimestamp(4, Timestamp.valueOf(now));
+                        ps.setTimestamp(5, Timestamp.valueOf(now));
+                    });
+                    TransactionHooks.afterCommit(() -> {
+                        for (int i = 0; i < inserted.size(); i++) {
+                            Long postId = inserted.get(i);
+                            String contents = requests.get(chunk.get(i)).getContents();
+                            postFeedCache.add(PostResponseDto.builder()
+                                    .msg(FEED_MSG)
+                                    .statusCode(200)
+                                    .id(postId)
+                                    .username(username)
+                                    .contents(contents)
+                                    .createdAt(now)
+                                    .modifiedAt(now)
+                                    .build());
+                            postSearchIndex.index(postId, contents, now);
+                            resourceVersions.postChanged(postId);
+                        }
+                    });
+                    return inserted;
+                });
+                record(chunk, ids, results);
+            } catch (DataAccessException e) {
+                log.error("게시글 일괄 등록 실패 : {} 건", chunk.size(), e);
+                chunk.forEach(index -> results[index] = BulkItemResultDto.failure(index, "저장에 실패했습니다."));
+            }
+        }
+        return BulkResponseDto.toDto("게시글 일괄 등록 완료 🎉", 200, Arrays.asList(results));
+    }
+
+    public BulkResponseDto importComments(long postId, List<CommentRequestDto> requests) {
+        checkSize(requests);
+        long userId = currentUser.getId();
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorEnum.BAD_POSTID);
+        }
+        BulkItemResultDto[] results = new BulkItemResultDto[requests.size()];
+        List<Integer> valid = validate(requests, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> inserted = insert(INSERT_COMMENT_SQL, chunk.size(), (ps, i, id) -> {
+                        ps.setLong(1, id);
+                        ps.setString(2, requests.get(chunk.get(i)).getComments());
+                        ps.setLong(3, postId);
+                        ps.setLong(4, userId);
+                        ps.setTimestamp(5, Timestamp.valueOf(now));
+                        ps.setTimestamp(6, Timestamp.valueOf(now));
+                    });
+                    TransactionHooks.afterCommit(() -> {
+                        inserted.forEach(commentId -> trendingPosts.recordComment(postId, 1, now));
+                        resourceVersions.commentsChanged();
+                    });
+                    return inserted;
+                });
+                record(chunk, ids, results);
+            } catch (DataAccessException e) {
+                log.error("댓글 일괄 등록 실패 : {} 건", chunk.size(), e);
+                chunk.forEach(index -> results[index] = BulkItemResultDto.failure(index, "저장에 실패했습니다."));
+            }
+        }
+        return BulkResponseDto.toDto("댓글 일괄 등록 완료 🎉", 200, Arrays.asList(results));
+    }
+
+    private void checkSize(List<?> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxItems) {
+            throw new CustomException(ErrorEnum.BAD_BULK_SIZE);
+        }
+    }
+
+    // 항목별 Bean Validation : 실패한 항목은 결과에 사유를 남기고, 통과한 항목의 index 만 반환
+    private <T> List<Integer> validate(List<T> requests, BulkItemResultDto[] results) {
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            T request = requests.get(index);
+            if (request == null) {
+                results[index] = BulkItemResultDto.failure(index, "내용을 입력해 주세요");
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                valid.add(index);
+            } else {
+                results[index] = BulkItemResultDto.failure(index, violations.iterator().next().getMessage());
+            }
+        }
+        return valid;
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            chunks.add(indexes.subList(from, Math.min(from + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+
+    // ID 를 먼저 발급한 뒤 배치 INSERT 하고, 발급한 ID 를 INSERT 순서대로 반환
+    private List<Long> insert(String sql, int size, RowSetter setter) {
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(snowflake.nextId());
+        }
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.set(ps, i, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+        return ids;
+    }
+
+    private void record(List<Integer> chunk, List<Long> ids, BulkItemResultDto[] results) {
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            results[index] = BulkItemResultDto.success(index, ids.get(i));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i, long id) throws SQLException;
+    }
+}
@@ -1,7 +1,10 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.ResourceVersions;
 import com.sparta.mvm.dto.CommentRequestDto;
 import com.sparta.mvm.dto.CommentResponseDto;
+import com.sparta.mvm.dto.CommentSummaryDto;
 import com.sparta.mvm.entity.Comment;
 import com.sparta.mvm.entity.Post;
 import com.sparta.mvm.entity.User;
@@ -9,15 +12,15 @@ import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.exception.ErrorEnum;
 import com.sparta.mvm.repository.CommentRepository;
 import com.sparta.mvm.repository.PostRepository;
-import com.sparta.mvm.repository.UserRepository;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.trending.TrendingPosts;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,15 +28,18 @@ import java.util.List;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final LikedByMeIndex likedByMeIndex;
+    private final TrendingPosts trendingPosts;
+    private final ResourceVersions resourceVersions;
 
 
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorEnum.USER_NOT_FOUND));
-    }
-
-    private Post findPostById(long postId) {
-        return postRepository.findById(postId).orElseThrow(() -> new CustomException(ErrorEnum.BAD_POSTID));
+    // 댓글 작성에는 게시글 FK 만 필요하므로 존재 여부만 확인하고 SELECT 없는 지연 참조 사용
+    private Post getPostReference(long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorEnum.BAD_POSTID);
+        }
+        return postRepository.getReferenceById(postId);
     }
 
     private Comment findCommentById(long commentId) {
@@ -42,21 +48,27 @@ public class CommentService {
 
     @Transactional
     public CommentResponseDto save(long postId, CommentRequestDto request) {
-        Long loggedInUserId = getLoggedInUserId();
-        User user = getUserById(loggedInUserId);
-        Post post = findPostById(postId);
+        // 작성자는 FK 만 필요하므로 SELECT 없는 지연 참조 사용
+        User user = currentUser.getReference();
+        String username = currentUser.getUsername();
+        Post post = getPostReference(postId);
         Comment comment = request.toEntity(post);
         comment.setUser(user);
-        comment = commentRepository.save(comment);
-        return CommentResponseDto.toDto("댓글 등록 성공 💌", 200, comment);
+        Comment saved = commentRepository.save(comment);
+        TransactionHooks.afterCommit(() -> {
+            trendingPosts.recordComment(postId, 1, saved.getCreatedAt());
+            resourceVersions.commentsChanged();
+        });
+        return CommentResponseDto.toDto("댓글 등록 성공 💌", 200, saved, username);
     }
 
     @Transactional
     public CommentResponseDto update(long commentId, CommentRequestDto request) {
         Comment comment = findCommentById(commentId);
-        Long loggedInUserId = getLoggedInUserId();
+        Long loggedInUserId = currentUser.getId();
         if (loggedInUserId.equals(comment.getUser().getId())) {
             comment.update(request.getComments());
+            TransactionHooks.afterCommit(resourceVersions::commentsChanged);
             return CommentResponseDto.toDto("댓글 수정 성공 🎉", 200, comment);
         } else {
             throw new CustomException(ErrorEnum.BAD_AUTH_PUT);
@@ -66,9 +78,16 @@ public class CommentService {
     @Transactional
     public CommentResponseDto delete(long commentId) {
         Comment comment = findCommentById(commentId);
-        Long loggedInUserId = getLoggedInUserId();
+        Long loggedInUserId = currentUser.getId();
         if (loggedInUserId.equals(comment.getUser().getId())) {
+            // deleted_at 만 기록 (Comment 의 @SQLDelete), 좋아요는 SoftDeletePurger 가 나중에 지움
             commentRepository.delete(comment);
+            Long postId = comment.getPost().getId();
+            TransactionHooks.afterCommit(() -> {
+                likedByMeIndex.removeComment(commentId);
+                trendingPosts.recordComment(postId, -1, comment.getCreatedAt());
+                resourceVersions.commentsChanged();
+            });
             return CommentResponseDto.toDeleteResponse("댓글 삭제 성공 🎉", 200);
         } else {
             throw new CustomException(ErrorEnum.BAD_AUTH_DELETE);
@@ -76,19 +95,22 @@ public class CommentService {
     }
 
     public List<CommentResponseDto> getAll() {
-        List<Comment> list = commentRepository.findAllByOrderByCreatedAtDesc();
-        return list
+        Long userId = currentUser.getIdOrNull();
+        return commentRepository.findAllSummaries()
                 .stream()
-                .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())
-                .map(comment -> CommentResponseDto.toDto("댓글 조회 성공 🎉", 200, comment))
+                .map(comment -> CommentResponseDto.toDto("댓글 조회 성공 🎉", 200, comment).toBuilder()
+                        .likedByMe(userId != null && likedByMeIndex.isCommentLikedBy(comment.getId(), userId))
+                        .build())
                 .toList();
     }
 
-    private Long getLoggedInUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new CustomException(ErrorEnum.USER_NOT_FOUND));
-        return user.getId();
+    // 전체 댓글 스트리밍 : 목록을 만들지 않고 한 건씩 읽는 대로 넘김 (넘기는 동안 트랜잭션과 커넥션 유지)
+    public void streamAll(Long userId, Consumer<CommentResponseDto> consumer) {
+        try (Stream<CommentSummaryDto> comments = commentRepository.streamAllSummaries()) {
+            comments.map(comment -> CommentResponseDto.toDto("댓글 조회 성공 🎉", 200, comment).toBuilder()
+                            .likedByMe(userId != null && likedByMeIndex.isCommentLikedBy(comment.getId(), userId))
+                            .build())
+                    .forEach(consumer);
+        }
     }
 }
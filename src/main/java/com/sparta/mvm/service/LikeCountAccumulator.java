@@ -0,0 +1,123 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.cache.ResourceVersions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글/댓글 좋아요 수 증감분을 메모리에 모았다가 주기적으로 배치 UPDATE 로 반영한다.
+ * 인기 게시글에 좋아요가 몰려도 요청마다 같은 행의 락을 잡지 않고, 증감분 합계만 한 번에 더한다.
+ * 배치는 한 트랜잭션으로 보내므로 전부 반영되거나 전부 취소되고, 실패한 증감분만 그대로 다음 flush 로 넘긴다.
+ */
+@Slf4j(topic = "LikeCountAccumulator")
+@Component
+public class LikeCountAccumulator implements MeterBinder {
+    private static final String UPDATE_POST_SQL = "update posts set like_count = like_count + ? where id = ?";
+    private static final String UPDATE_COMMENT_SQL = "update comments set like_count = like_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostFeedCache postFeedCache;
+    private final ResourceVersions resourceVersions;
+    // ConcurrentHashMap.merge 는 버킷 단위로만 잠기므로 서로 다른 게시글의 증감은 경합하지 않음
+    private final ConcurrentHashMap<Long, Long> postDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> commentDeltas = new ConcurrentHashMap<>();
+    private final LongAdder flushedRows = new LongAdder();
+
+    public LikeCountAccumulator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                PostFeedCache postFeedCache, ResourceVersions resourceVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postFeedCache = postFeedCache;
+        this.resourceVersions = resourceVersions;
+    }
+
+    public void addPostLike(Long postId, long delta) {
+        postDeltas.merge(postId, delta, Long::sum);
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        commentDeltas.merge(commentId, delta, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${like.count.flush-interval-ms:1000}")
+    public void flush() {
+        List<Object[]> postUpdates = drain(postDeltas);
+        if (write(UPDATE_POST_SQL, postUpdates, postDeltas)) {
+            postUpdates.forEach(args -> {
+                postFeedCache.addLikeCount((Long) args[1], (Long) args[0]);
+                resourceVersions.postChanged((Long) args[1]);
+            });
+        }
+        if (write(UPDATE_COMMENT_SQL, drain(commentDeltas), commentDeltas)) {
+            resourceVersions.commentsChanged();
+        }
+    }
+
+    // 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getPendingCount() {
+        return postDeltas.size() + commentDeltas.size();
+    }
+
+    public long getFlushedRowCount() {
+        return flushedRows.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("like.count.pending", this, LikeCountAccumulator::getPendingCount)
+                .register(registry);
+        FunctionCounter.builder("like.count.flushed", this, LikeCountAccumulator::getFlushedRowCount)
+                .register(registry);
+    }
+
+    // remove 는 merge 와 원자적으로 동작하므로 꺼내는 도중 들어온 증감분은 다음 flush 로 넘어감
+    private List<Object[]> drain(ConcurrentHashMap<Long, Long> deltas) {
+        List<Object[]> updates = new ArrayList<>();
+        for (Long id : deltas.keySet()) {
+            Long delta = deltas.remove(id);
+            if (delta != null && delta != 0) {
+                updates.add(new Object[]{delta, id});
+            }
+        }
+        return updates;
+    }
+
+    private boolean write(String sql, List<Object[]> updates, Map<Long, Long> deltas) {
+        if (updates.isEmpty()) {
+            return false;
+        }
+        try {
+            // 트랜잭션 없이 보내면 문장마다 커밋되어, 중간에 실패했을 때 이미 반영된 행까지 다시 더하게 됨
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, updates));
+            flushedRows.add(updates.size());
+            return true;
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 증감분 전체를 버리지 않고 다음 flush 에서 다시 시도
+            log.error("좋아요 수 반영 실패 : {} 건", updates.size(), e);
+            updates.forEach(args -> deltas.merge((Long) args[1], (Long) args[0], Long::sum));
+            return false;
+        }
+    }
+}
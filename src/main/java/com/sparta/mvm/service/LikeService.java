@@ -1,18 +1,16 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.ResourceVersions;
 import com.sparta.mvm.dto.LikeResponseDto;
-import com.sparta.mvm.entity.Comment;
-import com.sparta.mvm.entity.Like;
-import com.sparta.mvm.entity.Post;
-import com.sparta.mvm.entity.User;
 import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.id.Snowflake;
 import com.sparta.mvm.repository.CommentRepository;
 import com.sparta.mvm.repository.LikeRepository;
 import com.sparta.mvm.repository.PostRepository;
-import com.sparta.mvm.repository.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.trending.TrendingPosts;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,81 +19,143 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
     private final CommentRepository commentRepository;
+    private final LikeCountAccumulator likeCountAccumulator;
+    private final LikedByMeIndex likedByMeIndex;
+    private final TrendingPosts trendingPosts;
+    private final ResourceVersions resourceVersions;
+    private final Snowflake snowflake;
 
-    public LikeService(LikeRepository likeRepository, PostRepository postRepository, UserRepository userRepository, CommentRepository commentRepository) {
+    public LikeService(LikeRepository likeRepository, PostRepository postRepository, CurrentUser currentUser, CommentRepository commentRepository,
+                       LikeCountAccumulator likeCountAccumulator, LikedByMeIndex likedByMeIndex, TrendingPosts trendingPosts,
+                       ResourceVersions resourceVersions, Snowflake snowflake) {
         this.likeRepository = likeRepository;
         this.postRepository = postRepository;
-        this.userRepository = userRepository;
+        this.currentUser = currentUser;
         this.commentRepository = commentRepository;
+        this.likeCountAccumulator = likeCountAccumulator;
+        this.likedByMeIndex = likedByMeIndex;
+        this.trendingPosts = trendingPosts;
+        this.resourceVersions = resourceVersions;
+        this.snowflake = snowflake;
     }
 
-    private Post findPostById(Long postId) {
-        return postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorEnum.BAD_POSTID));
+    // 좋아요 수 증감은 실제로 행이 바뀐 경우에만 커밋 후 반영
+    @Transactional
+    public LikeResponseDto likePost(Long postId) {
+        Long userId = currentUser.getId();
+        boolean changed = insertPostLike(userId, postId);
+        return LikeResponseDto.toDto(changed ? "게시물 좋아요 성공 🎉" : "이미 좋아요를 누른 게시물입니다.", 200, true, changed);
     }
 
-    private Comment findCommentById(Long commentId) {
-        return commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(ErrorEnum.BAD_COMMENTID));
+    @Transactional
+    public LikeResponseDto unlikePost(Long postId) {
+        Long userId = currentUser.getId();
+        boolean changed = deletePostLike(userId, postId);
+        if (!changed && !postRepository.existsById(postId)) {
+            throw new CustomException(ErrorEnum.BAD_POSTID);
+        }
+        return LikeResponseDto.toDto(changed ? "게시물 좋아요 취소 성공 🎉" : "좋아요를 누르지 않은 게시물입니다.", 200, false, changed);
     }
 
+    // 좋아요 토글 : 취소를 먼저 시도하고, 지운 행이 없으면 좋아요
     @Transactional
-    public LikeResponseDto likePost(Long postId) {
-        User user = getLoggedInUser();
-        Post post = findPostById(postId);
-        if (user.equals(post.getUser())) {
-            throw new CustomException(ErrorEnum.CANNOT_LIKE_OWN_POST);
+    public LikeResponseDto togglePostLike(Long postId) {
+        Long userId = currentUser.getId();
+        if (deletePostLike(userId, postId)) {
+            return LikeResponseDto.toDto("게시물 좋아요 취소 성공 🎉", 200, false, true);
         }
-        if (likeRepository.existsByUserAndPost(user, post)) {
-            throw new CustomException(ErrorEnum.DUPLICATE_LIKE);
-        }
-        Like like = new Like(user, post);
-        likeRepository.save(like);
-        return LikeResponseDto.toDto("게시물 좋아요 성공 🎉", 200, like);
+        // 동시에 토글하면 다른 요청이 먼저 INSERT 했을 수 있으므로 실제로 바뀐 경우만 changed
+        boolean changed = insertPostLike(userId, postId);
+        return LikeResponseDto.toDto(changed ? "게시물 좋아요 성공 🎉" : "이미 좋아요를 누른 게시물입니다.", 200, true, changed);
     }
 
     @Transactional
-    public LikeResponseDto unlikePost(Long postId) {
-        User user = getLoggedInUser();
-        Post post = findPostById(postId);
-        Like like = likeRepository.findByUserAndPost(user, post)
-                .orElseThrow(() -> new CustomException(ErrorEnum.LIKE_NOT_FOUND));
-        likeRepository.delete(like);
-        return LikeResponseDto.toDeleteResponse("게시물 좋아요 취소 성공 🎉", 200, like);
+    public LikeResponseDto likeComment(Long commentId) {
+        Long userId = currentUser.getId();
+        boolean changed = insertCommentLike(userId, commentId);
+        return LikeResponseDto.toDto(changed ? "댓글 좋아요 성공 🎉" : "이미 좋아요를 누른 댓글입니다.", 200, true, changed);
     }
 
     @Transactional
-    public LikeResponseDto likeComment(Long commentId) {
-        User user = getLoggedInUser();
-        Comment comment = findCommentById(commentId);
-        if (user.equals(comment.getUser())) {
-            throw new CustomException(ErrorEnum.CANNOT_LIKE_OWN_COMMENT);
-        }
-        if (likeRepository.existsByUserAndComment(user, comment)) {
-            throw new CustomException(ErrorEnum.DUPLICATE_LIKE);
+    public LikeResponseDto unlikeComment(Long commentId) {
+        Long userId = currentUser.getId();
+        boolean changed = deleteCommentLike(userId, commentId);
+        if (!changed && !commentRepository.existsById(commentId)) {
+            throw new CustomException(ErrorEnum.BAD_COMMENTID);
         }
-        Like like = new Like(user, comment);
-        likeRepository.save(like);
-        return LikeResponseDto.toDto("댓글 좋아요 성공 🎉", 200, like);
+        return LikeResponseDto.toDto(changed ? "댓글 좋아요 취소 성공 🎉" : "좋아요를 누르지 않은 댓글입니다.", 200, false, changed);
     }
 
     @Transactional
-    public LikeResponseDto unlikeComment(Long commentId) {
-        User user = getLoggedInUser();
-        Comment comment = findCommentById(commentId);
-        Like like = likeRepository.findByUserAndComment(user, comment)
-                .orElseThrow(() -> new CustomException(ErrorEnum.LIKE_NOT_FOUND));
-        likeRepository.delete(like);
-        return LikeResponseDto.toDeleteResponse("댓글 좋아요 취소 성공 🎉", 200, like);
+    public LikeResponseDto toggleCommentLike(Long commentId) {
+        Long userId = currentUser.getId();
+        if (deleteCommentLike(userId, commentId)) {
+            return LikeResponseDto.toDto("댓글 좋아요 취소 성공 🎉", 200, false, true);
+        }
+        boolean changed = insertCommentLike(userId, commentId);
+        return LikeResponseDto.toDto(changed ? "댓글 좋아요 성공 🎉" : "이미 좋아요를 누른 댓글입니다.", 200, true, changed);
+    }
+
+    // INSERT 된 행이 없을 때만 원인(없는 게시글, 본인 게시글, 이미 좋아요)을 확인하는 쿼리를 한 번 더 실행
+    private boolean insertPostLike(Long userId, Long postId) {
+        if (likeRepository.insertPostLike(snowflake.nextId(), userId, postId) == 0) {
+            Long ownerId = postRepository.findUserIdById(postId)
+                    .orElseThrow(() -> new CustomException(ErrorEnum.BAD_POSTID));
+            if (ownerId.equals(userId)) {
+                throw new CustomException(ErrorEnum.CANNOT_LIKE_OWN_POST);
+            }
+            return false;
+        }
+        TransactionHooks.afterCommit(() -> {
+            likeCountAccumulator.addPostLike(postId, 1);
+            likedByMeIndex.addPostLike(postId, userId);
+            trendingPosts.recordLike(postId, 1);
+            resourceVersions.postChanged(postId);
+        });
+        return true;
+    }
+
+    private boolean deletePostLike(Long userId, Long postId) {
+        if (likeRepository.deletePostLike(userId, postId) == 0) {
+            return false;
+        }
+        TransactionHooks.afterCommit(() -> {
+            likeCountAccumulator.addPostLike(postId, -1);
+            likedByMeIndex.removePostLike(postId, userId);
+            trendingPosts.recordLike(postId, -1);
+            resourceVersions.postChanged(postId);
+        });
+        return true;
+    }
+
+    private boolean insertCommentLike(Long userId, Long commentId) {
+        if (likeRepository.insertCommentLike(snowflake.nextId(), userId, commentId) == 0) {
+            Long ownerId = commentRepository.findUserIdById(commentId)
+                    .orElseThrow(() -> new CustomException(ErrorEnum.BAD_COMMENTID));
+            if (ownerId.equals(userId)) {
+                throw new CustomException(ErrorEnum.CANNOT_LIKE_OWN_COMMENT);
+            }
+            return false;
+        }
+        TransactionHooks.afterCommit(() -> {
+            likeCountAccumulator.addCommentLike(commentId, 1);
+            likedByMeIndex.addCommentLike(commentId, userId);
+            resourceVersions.commentsChanged();
+        });
+        return true;
     }
 
-    // 현재 로그인한 사용자의 ID 가져오기
-    private User getLoggedInUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new CustomException(ErrorEnum.USER_NOT_FOUND));
+    private boolean deleteCommentLike(Long userId, Long commentId) {
+        if (likeRepository.deleteCommentLike(userId, commentId) == 0) {
+            return false;
+        }
+        TransactionHooks.afterCommit(() -> {
+            likeCountAccumulator.addCommentLike(commentId, -1);
+            likedByMeIndex.removeCommentLike(commentId, userId);
+            resourceVersions.commentsChanged();
+        });
+        return true;
     }
 }
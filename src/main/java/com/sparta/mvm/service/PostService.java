@@ -1,32 +1,73 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.dto.PostCursor;
+import com.sparta.mvm.dto.PostPageResponseDto;
 import com.sparta.mvm.dto.PostRequestDto;
 import com.sparta.mvm.dto.PostResponseDto;
+import com.sparta.mvm.dto.PostSearchResponseDto;
+import com.sparta.mvm.dto.PostSummaryDto;
 import com.sparta.mvm.entity.Post;
 import com.sparta.mvm.entity.User;
 import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.exception.ErrorEnum;
 import com.sparta.mvm.repository.PostRepository;
-import com.sparta.mvm.repository.UserRepository;
+import com.sparta.mvm.search.PostSearchIndex;
+import com.sparta.mvm.search.SearchHits;
+import com.sparta.mvm.trending.TrendingPosts;
+import com.sparta.mvm.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final int MAX_PAGE_SIZE = 100;
+    // 검색은 앞쪽 결과만 의미가 있으므로 깊은 페이지는 조회하지 않음
+    private static final int MAX_SEARCH_DEPTH = 1000;
+    private static final String FEED_MSG = "게시글 조회 성공 🎉";
+
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final PostFeedCache postFeedCache;
+    private final LikedByMeIndex likedByMeIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPosts trendingPosts;
+    private final ResourceVersions resourceVersions;
+
+    // 서버 기동 시 최신 게시글로 뉴스피드 캐시 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmFeedCache() {
+        postFeedCache.warm(this::findNewestPosts);
+    }
+
+    // 뉴스피드 캐시 용량보다 한 건 더 읽어 전체 게시글이 캐시에 들어가는지 판단
+    private List<PostResponseDto> findNewestPosts() {
+        PageRequest pageable = PageRequest.of(0, postFeedCache.getCapacity() + 1);
+        return postRepository.findFirstPage(pageable)
+                .stream()
+                .map(post -> PostResponseDto.toDto(FEED_MSG, 200, post))
+                .toList();
+    }
 
     public PostResponseDto findById(long postId) {
         Post post = findPostById(postId);
-        return PostResponseDto.toDto("게시글 조회 성공 🎉", 200, post);
+        return markLikedByMe(PostResponseDto.toDto(FEED_MSG, 200, post), currentUser.getIdOrNull());
     }
 
     private Post findPostById(long postId) {
@@ -35,30 +76,136 @@ public class PostService {
 
     @Transactional
     public PostResponseDto save(PostRequestDto request) {
-        Long loggedInUserId = getLoggedInUserId();
-        User user = getUserById(loggedInUserId);
+        // 작성자는 FK 만 필요하므로 SELECT 없는 지연 참조 사용
+        User user = currentUser.getReference();
+        String username = currentUser.getUsername();
         Post post = request.toEntity();
         post.setUser(user);
-        post = postRepository.save(post);
-        return PostResponseDto.toDto("게시글 등록 성공 🎉", 200, post);
+        Post saved = postRepository.save(post);
+        TransactionHooks.afterCommit(() -> {
+            postFeedCache.add(PostResponseDto.toDto(FEED_MSG, 200, saved, username));
+            postSearchIndex.index(saved.getId(), saved.getContents(), saved.getModifiedAt());
+            resourceVersions.postChanged(saved.getId());
+        });
+        return PostResponseDto.toDto("게시글 등록 성공 🎉", 200, saved, username);
     }
 
-    @Transactional
-    public List<PostResponseDto> getAll() {
-        List<Post> list = postRepository.findAllByOrderByCreatedAtDesc();
-        return list
+    // 뉴스피드 조회 : 커서 이후 limit 개만 조회, 다음 페이지 존재 여부 확인을 위해 limit + 1 개를 읽음
+    public PostPageResponseDto getAll(String after, int limit) {
+        PostPageResponseDto page = findPage(after, limit);
+        Long userId = currentUser.getIdOrNull();
+        if (userId == null) {
+            return page;
+        }
+        List<PostResponseDto> newsFeed = page.getNewsFeed()
                 .stream()
-                .sorted(Comparator.comparing(Post::getCreatedAt).reversed())
-                .map(post -> PostResponseDto.toDto("게시글 조회 성공 🎉", 200, post))
+                .map(post -> markLikedByMe(post, userId))
                 .toList();
+        return new PostPageResponseDto(newsFeed, page.getNextCursor());
+    }
+
+    private PostPageResponseDto findPage(String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        if (after == null || after.isBlank()) {
+            PostPageResponseDto cached = postFeedCache.firstPage(pageSize);
+            if (cached == null && postFeedCache.refill(this::findNewestPosts)) {
+                // 삭제로 캐시가 페이지보다 작아졌으면 다시 채운 뒤 캐시로 응답
+                cached = postFeedCache.firstPage(pageSize);
+            }
+            if (cached != null) {
+                return cached;
+            }
+        }
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryDto> list;
+        if (after == null || after.isBlank()) {
+            list = postRepository.findFirstPage(pageable);
+        } else {
+            PostCursor cursor = PostCursor.decode(after);
+            list = postRepository.findPageByCursor(cursor.getId(), pageable);
+        }
+
+        boolean hasNext = list.size() > pageSize;
+        List<PostResponseDto> newsFeed = list
+                .stream()
+                .limit(pageSize)
+                .map(post -> PostResponseDto.toDto(FEED_MSG, 200, post))
+                .toList();
+        String nextCursor = hasNext ? PostCursor.of(newsFeed.get(newsFeed.size() - 1)).encode() : null;
+        return new PostPageResponseDto(newsFeed, nextCursor);
+    }
+
+    // 전체 게시글 스트리밍 : 목록을 만들지 않고 한 건씩 읽는 대로 넘김 (넘기는 동안 트랜잭션과 커넥션 유지)
+    public void streamAll(Long userId, Consumer<PostResponseDto> consumer) {
+        try (Stream<PostSummaryDto> posts = postRepository.streamAllSummaries()) {
+            posts.map(post -> markLikedByMe(PostResponseDto.toDto(FEED_MSG, 200, post), userId))
+                    .forEach(consumer);
+        }
+    }
+
+    // 게시글 검색 : 검색 색인에서 점수 순 ID 를 받아 해당 게시글만 조회
+    public PostSearchResponseDto search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new CustomException(ErrorEnum.BAD_SEARCH_QUERY);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNo = Math.max(page, 0);
+        if ((long) pageNo * pageSize >= MAX_SEARCH_DEPTH) {
+            return new PostSearchResponseDto(List.of(), 0, pageNo, pageSize);
+        }
+        SearchHits hits = postSearchIndex.search(query, pageNo * pageSize, pageSize);
+        if (hits.getPostIds().isEmpty()) {
+            return new PostSearchResponseDto(List.of(), hits.getTotalHits(), pageNo, pageSize);
+        }
+
+        List<PostResponseDto> posts = findInOrder(hits.getPostIds());
+        return new PostSearchResponseDto(posts, hits.getTotalHits(), pageNo, pageSize);
+    }
+
+    // 인기 게시글 : 메모리의 순위 목록에서 ID 를 받아 해당 게시글만 조회
+    public List<PostResponseDto> getTrending(int limit) {
+        int size = Math.min(Math.max(limit, 1), trendingPosts.getCapacity());
+        List<Long> postIds = trendingPosts.top(size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return findInOrder(postIds);
+    }
+
+    // ID 순서대로 게시글 조회 : 색인/순위 반영 직전에 삭제된 게시글은 제외
+    private List<PostResponseDto> findInOrder(List<Long> postIds) {
+        Map<Long, PostSummaryDto> found = postRepository.findSummariesByIds(postIds)
+                .stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+        Long userId = currentUser.getIdOrNull();
+        return postIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(post -> markLikedByMe(PostResponseDto.toDto(FEED_MSG, 200, post), userId))
+                .toList();
+    }
+
+    // 캐시된 DTO 는 공유되므로 복사본에 likedByMe 표시
+    private PostResponseDto markLikedByMe(PostResponseDto post, Long userId) {
+        if (userId == null || !likedByMeIndex.isPostLikedBy(post.getId(), userId)) {
+            return post;
+        }
+        return post.toBuilder().likedByMe(true).build();
     }
 
     @Transactional
     public PostResponseDto update(long postId, PostRequestDto request) {
         Post post = findPostById(postId);
-        Long loggedInUserId = getLoggedInUserId();
+        Long loggedInUserId = currentUser.getId();
         if (loggedInUserId.equals(post.getUser().getId())) {
             post.update(request.getContents());
+            // modifiedAt 은 커밋 시점 flush 에서 갱신되므로 커밋 이후에 캐시용 DTO 생성
+            TransactionHooks.afterCommit(() -> {
+                postFeedCache.replace(PostResponseDto.toDto(FEED_MSG, 200, post));
+                postSearchIndex.index(post.getId(), post.getContents(), post.getModifiedAt());
+                resourceVersions.postChanged(post.getId());
+            });
             return PostResponseDto.toDto("게시글 수정 성공 🎉", 200, post);
         } else {
             throw new CustomException(ErrorEnum.BAD_AUTH_PUT);
@@ -68,25 +215,22 @@ public class PostService {
     @Transactional
     public PostResponseDto delete(long postId) {
         Post post = findPostById(postId);
-        Long loggedInUserId = getLoggedInUserId();
+        Long loggedInUserId = currentUser.getId();
         if (loggedInUserId.equals(post.getUser().getId())) {
+            // deleted_at 만 기록 (Post 의 @SQLDelete), 댓글과 좋아요는 SoftDeletePurger 가 나중에 지움
             postRepository.delete(post);
+            TransactionHooks.afterCommit(() -> {
+                postFeedCache.remove(postId);
+                likedByMeIndex.removePost(postId);
+                postSearchIndex.remove(postId);
+                trendingPosts.remove(postId);
+                resourceVersions.postChanged(postId);
+                // 댓글 목록은 삭제된 게시글의 댓글을 제외하므로 댓글 버전도 올림
+                resourceVersions.commentsChanged();
+            });
             return PostResponseDto.toDeleteResponse("게시글 삭제 성공 🎉", 200);
         } else {
             throw new CustomException(ErrorEnum.BAD_AUTH_DELETE);
         }
     }
-
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorEnum.USER_NOT_FOUND));
-    }
-
-    // 현재 로그인한 사용자의 ID 가져오기
-    private Long getLoggedInUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new CustomException(ErrorEnum.USER_NOT_FOUND));
-        return user.getId();
-    }
 }
@@ -1,14 +1,21 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.cache.UserCache;
 import com.sparta.mvm.dto.ProfileRequestDto;
 import com.sparta.mvm.dto.ProfileResponseDto;
 import com.sparta.mvm.entity.User;
 import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.repository.ProfileRepository;
+import com.sparta.mvm.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.sparta.mvm.exception.ErrorEnum.*;
 
@@ -16,7 +23,13 @@ import static com.sparta.mvm.exception.ErrorEnum.*;
 @RequiredArgsConstructor
 public class ProfileService {
     private final ProfileRepository profileRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ResourceVersions resourceVersions;
+    private final UserCache userCache;
+    private final TransactionTemplate transactionTemplate;
+    // 해시 이후의 수정(DB)을 실행할 요청 처리용 실행기 : BCrypt 풀은 계산에만 씀
+    @Qualifier("applicationTaskExecutor")
+    private final Executor requestExecutor;
 
     @Transactional(readOnly = true)
     public ProfileResponseDto getProfile(Long userId) {
@@ -26,15 +39,20 @@ public class ProfileService {
         return responseDto;
     }
 
-    @Transactional
-    public ProfileResponseDto updateProfile(Long userId, ProfileRequestDto requestDto) {
-        User user = getUserById(userId);
+    // 비밀번호 계산(BCrypt)은 트랜잭션을 열기 전에 PasswordHasher 풀에서 하고, 끝나면 요청 처리용 실행기에서 수정
+    public CompletableFuture<ProfileResponseDto> updateProfile(Long userId, ProfileRequestDto requestDto) {
+        //비밀번호를 바꾸지 않을 경우, 해시 계산 없이 바로 수정
+        if (requestDto.getChangedPassword().isEmpty()) {
+            return CompletableFuture.supplyAsync(() -> update(userId, requestDto, null, null), requestExecutor);
+        }
 
         // 비밀번호를 바꿀 때
-        if (!requestDto.getChangedPassword().isEmpty()) {
+        String currentPassword = userCache.findById(userId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND))
+                .getPassword();
+        return passwordHasher.matches(requestDto.getCurrentPassword(), currentPassword).thenCompose(matched -> {
             // 현재 비밀번호와 입력한 비밀번호가 다를 경우 BAD_PASSWORD
-            // 스프링 시큐리티 PasswordEncoder
-            if (!passwordEncoder.matches(requestDto.getCurrentPassword(), user.getPassword())) {
+            if (!matched) {
                 throw new CustomException(BAD_PASSWORD);
             }
             // 일치하지만 새 비밀번호가 기존과 동일할 경우 SAME_PASSWORD
@@ -45,14 +63,29 @@ public class ProfileService {
             if (!requestDto.getChangedPassword().matches("^(?=.*?[A-Za-z])(?=.*?[0-9])(?=.*?[#?!@$ %^&*-]).{10,}$")) {
                 throw new CustomException(BAD_PASSWORD);
             }
-            requestDto.setChangedPassword(passwordEncoder.encode(requestDto.getChangedPassword()));
-        } else { //비밀번호를 바꾸지 않을 경우, 바꿀 비밀번호를 현재 비밀번호로 설정
-            requestDto.setChangedPassword(user.getPassword());
-        }
+            return passwordHasher.encode(requestDto.getChangedPassword());
+        }).thenApplyAsync(encoded -> update(userId, requestDto, currentPassword, encoded), requestExecutor);
+    }
+
+    // 검증한 비밀번호(verifiedPassword)가 그사이 바뀌었으면 검증 결과를 쓸 수 없으므로 BAD_PASSWORD
+    private ProfileResponseDto update(Long userId, ProfileRequestDto requestDto, String verifiedPassword, String encodedPassword) {
+        return transactionTemplate.execute(status -> {
+            User user = getUserById(userId);
+            if (encodedPassword == null) {
+                requestDto.setChangedPassword(user.getPassword());
+            } else if (user.getPassword().equals(verifiedPassword)) {
+                requestDto.setChangedPassword(encodedPassword);
+            } else {
+                throw new CustomException(BAD_PASSWORD);
+            }
 
-        user.update(requestDto);
-        user = getUserById(userId);
-        return new ProfileResponseDto(user);
+            user.update(requestDto);
+            TransactionHooks.afterCommit(() -> {
+                resourceVersions.profileChanged(userId);
+                userCache.invalidate(user);
+            });
+            return new ProfileResponseDto(user);
+        });
     }
 
     private User getUserById(Long userId) {
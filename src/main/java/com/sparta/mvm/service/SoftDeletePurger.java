@@ -0,0 +1,194 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.LikedByMeIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 삭제 표시(deleted_at)된 게시글/댓글을 딸린 댓글, 좋아요와 함께 백그라운드에서 실제로 지운다.
+ * 요청 스레드는 deleted_at 만 기록하고, 여기서 chunk-size 행씩 autocommit DELETE 로 나눠 지우므로 한 번에 많은 행을 잠그지 않는다.
+ * 한 번 실행할 때 max-chunks-per-run 개의 DELETE 만 보내고 나머지는 다음 실행에서 이어서 지운다.
+ * 지우는 도중 새 댓글/좋아요가 들어와 FK 때문에 실패해도 다음 실행에서 다시 시도한다.
+ */
+@Slf4j(topic = "SoftDeletePurger")
+@Component
+public class SoftDeletePurger implements MeterBinder {
+    private static final String SELECT_DELETED_POSTS_SQL = "select id from posts where deleted_at is not null order by deleted_at limit ?";
+    private static final String SELECT_DELETED_COMMENTS_SQL = "select id from comments where deleted_at is not null order by deleted_at limit ?";
+    private static final String SELECT_COMMENT_IDS_OF_POST_SQL = "select id from comments where post_id = ? limit ?";
+    private static final String DELETE_POST_LIKES_SQL = "delete from likes where post_id = ? limit ?";
+    private static final String DELETE_POST_SQL = "delete from posts where id = ? and deleted_at is not null";
+    private static final String DELETE_COMMENT_SQL = "delete from comments where id = ? and deleted_at is not null";
+    private static final String COUNT_DELETED_POSTS_SQL = "select count(*) from posts where deleted_at is not null";
+    private static final String COUNT_DELETED_COMMENTS_SQL = "select count(*) from comments where deleted_at is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikedByMeIndex likedByMeIndex;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final LongAdder purgedPosts = new LongAdder();
+    private final LongAdder purgedComments = new LongAdder();
+    private final LongAdder purgedLikes = new LongAdder();
+    private final AtomicLong pendingPosts = new AtomicLong();
+    private final AtomicLong pendingComments = new AtomicLong();
+
+    public SoftDeletePurger(JdbcTemplate jdbcTemplate, LikedByMeIndex likedByMeIndex,
+                            @Value("${purge.chunk-size:500}") int chunkSize,
+                            @Value("${purge.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.likedByMeIndex = likedByMeIndex;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval-ms:1000}")
+    public void purge() {
+        Budget budget = new Budget(maxChunksPerRun);
+        try {
+            for (Long postId : jdbcTemplate.queryForList(SELECT_DELETED_POSTS_SQL, Long.class, maxChunksPerRun)) {
+                if (!purgePost(postId, budget)) {
+                    break;
+                }
+            }
+            for (Long commentId : jdbcTemplate.queryForList(SELECT_DELETED_COMMENTS_SQL, Long.class, maxChunksPerRun)) {
+                if (!purgeComment(commentId, budget)) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("삭제 정리 실패 : 다음 실행에서 다시 시도합니다.", e);
+        }
+        pendingPosts.set(count(COUNT_DELETED_POSTS_SQL));
+        pendingComments.set(count(COUNT_DELETED_COMMENTS_SQL));
+    }
+
+    // 게시글의 댓글(과 댓글 좋아요) → 게시글 좋아요 → 게시글 순서로 지움, 예산을 다 쓰면 false
+    private boolean purgePost(Long postId, Budget budget) {
+        while (true) {
+            List<Long> commentIds = jdbcTemplate.queryForList(SELECT_COMMENT_IDS_OF_POST_SQL, Long.class, postId, chunkSize);
+            if (commentIds.isEmpty()) {
+                break;
+            }
+            if (!deleteCommentLikes(commentIds, budget) || !budget.take()) {
+                return false;
+            }
+            purgedComments.add(jdbcTemplate.update("delete from comments where id in (" + placeholders(commentIds.size()) + ")",
+                    commentIds.toArray()));
+            commentIds.forEach(likedByMeIndex::removeComment);
+        }
+        if (!deleteInChunks(DELETE_POST_LIKES_SQL, postId, budget) || !budget.take()) {
+            return false;
+        }
+        purgedPosts.add(jdbcTemplate.update(DELETE_POST_SQL, postId));
+        return true;
+    }
+
+    private boolean purgeComment(Long commentId, Budget budget) {
+        if (!deleteCommentLikes(List.of(commentId), budget) || !budget.take()) {
+            return false;
+        }
+        purgedComments.add(jdbcTemplate.update(DELETE_COMMENT_SQL, commentId));
+        return true;
+    }
+
+    private boolean deleteCommentLikes(List<Long> commentIds, Budget budget) {
+        String sql = "delete from likes where comment_id in (" + placeholders(commentIds.size()) + ") limit ?";
+        Object[] args = Arrays.copyOf(commentIds.toArray(), commentIds.size() + 1);
+        args[commentIds.size()] = chunkSize;
+        return deleteInChunks(sql, args, budget);
+    }
+
+    private boolean deleteInChunks(String sql, Long id, Budget budget) {
+        return deleteInChunks(sql, new Object[]{id, chunkSize}, budget);
+    }
+
+    // LIMIT 이 있는 DELETE 를 지울 행이 없을 때까지 반복, 예산을 다 쓰면 false
+    private boolean deleteInChunks(String sql, Object[] args, Budget budget) {
+        int deleted;
+        do {
+            if (!budget.take()) {
+                return false;
+            }
+            deleted = jdbcTemplate.update(sql, args);
+            purgedLikes.add(deleted);
+        } while (deleted >= chunkSize);
+        return true;
+    }
+
+    private long count(String sql) {
+        try {
+            Long count = jdbcTemplate.queryForObject(sql, Long.class);
+            return count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            log.warn("삭제 대기 건수 조회 실패", e);
+            return -1;
+        }
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    public long getPendingPostCount() {
+        return pendingPosts.get();
+    }
+
+    public long getPendingCommentCount() {
+        return pendingComments.get();
+    }
+
+    public long getPurgedLikeCount() {
+        return purgedLikes.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("purge.rows", purgedPosts, LongAdder::sum)
+                .tag("table", "posts")
+                .register(registry);
+        FunctionCounter.builder("purge.rows", purgedComments, LongAdder::sum)
+                .tag("table", "comments")
+                .register(registry);
+        FunctionCounter.builder("purge.rows", purgedLikes, LongAdder::sum)
+                .tag("table", "likes")
+                .register(registry);
+        Gauge.builder("purge.pending", pendingPosts, AtomicLong::get)
+                .tag("table", "posts")
+                .register(registry);
+        Gauge.builder("purge.pending", pendingComments, AtomicLong::get)
+                .tag("table", "comments")
+                .register(registry);
+    }
+
+    // 한 번 실행에서 보낼 수 있는 DELETE 개수
+    private static final class Budget {
+        private int remaining;
+
+        Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        boolean take() {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+    }
+}
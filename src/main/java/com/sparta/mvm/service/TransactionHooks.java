@@ -0,0 +1,25 @@
+package com.sparta.mvm.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 커밋 이후에만 반영되어야 하는 메모리 상태(캐시, 인덱스 등) 갱신용
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행, 트랜잭션 밖이면 즉시 실행
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.UserCache;
 import com.sparta.mvm.dto.ResignDto;
 import com.sparta.mvm.dto.SignupRequestDto;
 import com.sparta.mvm.dto.SignupResponseDto;
@@ -7,12 +8,17 @@ import com.sparta.mvm.entity.User;
 import com.sparta.mvm.entity.UserStatusEnum;
 import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.repository.UserRepository;
+import com.sparta.mvm.security.PasswordHasher;
+import com.sparta.mvm.security.RefreshTokenStore;
+import com.sparta.mvm.security.TokenDenyList;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.sparta.mvm.exception.ErrorEnum.*;
 
@@ -21,34 +27,58 @@ import static com.sparta.mvm.exception.ErrorEnum.*;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
+    private final TokenDenyList tokenDenyList;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
+    // 해시 이후의 DB 작업(가입 등록, 탈퇴 처리)을 실행할 요청 처리용 실행기 : BCrypt 풀은 계산에만 씀
+    @Qualifier("applicationTaskExecutor")
+    private final Executor requestExecutor;
 
-    public SignupResponseDto signup(SignupRequestDto requestDto) {
+    // 비밀번호 해시는 PasswordHasher 풀에서 계산하고, 끝나면 요청 처리용 실행기에서 중복 확인과 등록을 한 트랜잭션으로 처리
+    public CompletableFuture<SignupResponseDto> signup(SignupRequestDto requestDto) {
+        return passwordHasher.encode(requestDto.getPassword())
+                .thenApplyAsync(password -> register(requestDto, password), requestExecutor);
+    }
+
+    // 동시에 같은 username 으로 가입하면 둘 다 중복 확인을 통과할 수 있으므로 username 유니크 키 위반도 중복으로 처리
+    private SignupResponseDto register(SignupRequestDto requestDto, String password) {
         String username = requestDto.getUsername();
-        String password = passwordEncoder.encode(requestDto.getPassword());
-        String name = requestDto.getName();
-        String lineIntro = requestDto.getLineIntro();
-        UserStatusEnum userStatusEnum = UserStatusEnum.USER_NORMAL;
-
-        // 회원 중복 확인
-        Optional<User> checkUsername = userRepository.findByUsername(username);
-        if (checkUsername.isPresent()) {
+        User user = new User(username, password, requestDto.getName(), requestDto.getEmail(),
+                requestDto.getLineIntro(), UserStatusEnum.USER_NORMAL);
+        try {
+            return transactionTemplate.execute(status -> {
+                // 회원 중복 확인
+                if (userRepository.findByUsername(username).isPresent()) {
+                    throw new CustomException(BAD_DUPLICATE);
+                }
+                // 사용자 등록 : 유니크 키 위반을 이 안에서 받도록 바로 flush
+                userRepository.saveAndFlush(user);
+                return new SignupResponseDto(user);
+            });
+        } catch (DataIntegrityViolationException e) {
             throw new CustomException(BAD_DUPLICATE);
         }
+    }
 
-        String email = requestDto.getEmail();
-
-        // 사용자 등록
-        User user = new User(username, password, name, email, lineIntro, userStatusEnum);
-        userRepository.save(user);
-
-        return new SignupResponseDto(user);
+    // 비밀번호 검증은 트랜잭션을 열기 전에 PasswordHasher 풀에서 계산하고, 끝나면 요청 처리용 실행기에서 탈퇴 처리
+    public CompletableFuture<Void> resign(User user, ResignDto resignDto) {
+        String password = userCache.findByUsername(user.getUsername())
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND))
+                .getPassword();
+        return passwordHasher.matches(resignDto.getPassword(), password).thenAcceptAsync(matched -> {
+            if (!matched) {
+                throw new CustomException(BAD_PASSWORD);
+            }
+            transactionTemplate.executeWithoutResult(status -> resignStatus(user.getUsername(), password));
+        }, requestExecutor);
     }
 
-    @Transactional
-    public void resign(User user, ResignDto resignDto) {
-        User userRep = userRepository.findByUsername(user.getUsername()).orElseThrow();
-        if (!passwordEncoder.matches(resignDto.getPassword(), userRep.getPassword())) {
+    private void resignStatus(String username, String verifiedPassword) {
+        User userRep = userRepository.findByUsername(username).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        // 검증한 뒤 비밀번호가 바뀌었으면 검증 결과를 쓸 수 없음
+        if (!userRep.getPassword().equals(verifiedPassword)) {
             throw new CustomException(BAD_PASSWORD);
         }
         if (userRep.getUserStatus().equals(UserStatusEnum.USER_RESIGN)) {
@@ -56,5 +86,10 @@ public class UserService {
         }
 
         userRep.resignStatus();
+        TransactionHooks.afterCommit(() -> {
+            userCache.invalidate(userRep);
+            tokenDenyList.revokeAll(userRep.getId());
+            refreshTokenStore.deleteAll(userRep.getId());
+        });
     }
 }
@@ -0,0 +1,223 @@
+package com.sparta.mvm.trending;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좋아요/댓글에 시간 감쇠를 적용한 인기 게시글 순위.
+ * 반감기마다 점수가 절반이 되는 지수 감쇠는 모든 게시글에 같은 비율로 적용되므로,
+ * 이벤트 시각 기준으로 가중치를 키워 더해 두면(로그 공간에 보관) 기존 점수를 매번 감쇠시키지 않아도 순위가 유지된다.
+ * 순위 목록은 refresh-interval 동안 재사용하고, 만료되면 요청 한 건만 상위 K 개를 다시 계산한다.
+ */
+@Slf4j(topic = "TrendingPosts")
+@Component
+public class TrendingPosts implements MeterBinder {
+    private static final double LN2 = Math.log(2);
+    // 현재 기준 점수가 0.01 미만이면 추적 대상에서 제외
+    private static final double PRUNE_LOG_SCORE = Math.log(0.01);
+    // 기동 시 반감기 4 번 이내(가중치 1/16 이상)의 좋아요와 댓글로 점수 복원
+    private static final int SEED_HALF_LIVES = 4;
+    private static final String SEED_LIKES_SQL = "select l.post_id, l.created_at from likes l join posts p on p.id = l.post_id " +
+            "where p.deleted_at is null and l.created_at >= ?";
+    private static final String SEED_COMMENTS_SQL = "select c.post_id, c.created_at from comments c join posts p on p.id = c.post_id " +
+            "where c.deleted_at is null and p.deleted_at is null and c.created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final double halfLifeSeconds;
+    private final Duration refreshInterval;
+    private final int capacity;
+    private final int maxTracked;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    // 게시글 ID -> ln(Σ weight * 2^(t / halfLife))
+    private final ConcurrentHashMap<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Ranking ranking = new Ranking(List.of(), Instant.MIN);
+
+    public TrendingPosts(JdbcTemplate jdbcTemplate, Clock clock,
+                         @Value("${trending.half-life:6h}") Duration halfLife,
+                         @Value("${trending.refresh-interval:5s}") Duration refreshInterval,
+                         @Value("${trending.capacity:100}") int capacity,
+                         @Value("${trending.max-tracked:100000}") int maxTracked,
+                         @Value("${trending.like-weight:1}") double likeWeight,
+                         @Value("${trending.comment-weight:2}") double commentWeight) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("trending.half-life 는 0 보다 커야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.halfLifeSeconds = halfLife.toMillis() / 1000.0;
+        this.refreshInterval = refreshInterval;
+        this.capacity = capacity;
+        this.maxTracked = maxTracked;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Instant now = clock.instant();
+        LocalDateTime since = LocalDateTime.ofInstant(now.minusMillis((long) (halfLifeSeconds * 1000 * SEED_HALF_LIVES)), ZoneId.systemDefault());
+        jdbcTemplate.query(SEED_LIKES_SQL, seedRow(likeWeight), since);
+        jdbcTemplate.query(SEED_COMMENTS_SQL, seedRow(commentWeight), since);
+        log.info("인기 게시글 점수 복원 : 게시글 {} 건", logScores.size());
+    }
+
+    // 좋아요 : 취소는 좋아요 시각을 알 수 없으므로 현재 시각 기준으로 차감 (0 미만으로는 내려가지 않음)
+    public void recordLike(Long postId, int delta) {
+        record(postId, delta * likeWeight, clock.instant());
+    }
+
+    // 댓글 : 삭제는 댓글 작성 시각 기준으로 차감하므로 작성 때 더한 점수가 정확히 빠짐
+    public void recordComment(Long postId, int delta, LocalDateTime createdAt) {
+        record(postId, delta * commentWeight, createdAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public void remove(Long postId) {
+        logScores.remove(postId);
+    }
+
+    // 점수 높은 순 게시글 ID : 순위 목록이 만료됐으면 한 스레드만 다시 계산하고 나머지는 이전 목록 사용
+    public List<Long> top(int limit) {
+        Ranking current = ranking;
+        if (current.isExpired(clock.instant(), refreshInterval) && refreshLock.tryLock()) {
+            try {
+                current = ranking;
+                if (current.isExpired(clock.instant(), refreshInterval)) {
+                    current = refresh();
+                    ranking = current;
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        List<Long> postIds = current.postIds;
+        return postIds.subList(0, Math.min(Math.max(limit, 0), postIds.size()));
+    }
+
+    // 현재 시각 기준 감쇠된 점수
+    public double score(Long postId) {
+        Double logScore = logScores.get(postId);
+        return logScore == null ? 0 : Math.exp(logScore - logTime(clock.instant()));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getTrackedCount() {
+        return logScores.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("trending.tracked", this, TrendingPosts::getTrackedCount)
+                .register(registry);
+    }
+
+    private void record(Long postId, double weight, Instant at) {
+        if (weight == 0) {
+            return;
+        }
+        double logWeight = Math.log(Math.abs(weight)) + logTime(at);
+        logScores.compute(postId, (id, logScore) -> {
+            if (weight > 0) {
+                return logScore == null ? logWeight : logAddExp(logScore, logWeight);
+            }
+            // 빼는 값이 현재 점수 이상이면 추적 대상에서 제거
+            if (logScore == null || logWeight >= logScore) {
+                return null;
+            }
+            return logScore + Math.log1p(-Math.exp(logWeight - logScore));
+        });
+    }
+
+    private Ranking refresh() {
+        Instant now = clock.instant();
+        double threshold = logTime(now) + PRUNE_LOG_SCORE;
+        logScores.values().removeIf(logScore -> logScore < threshold);
+        if (logScores.size() > maxTracked) {
+            evictLowest(logScores.size() - maxTracked);
+        }
+
+        Comparator<Map.Entry<Long, Double>> lowestFirst = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(capacity + 1, lowestFirst);
+        for (Map.Entry<Long, Double> entry : logScores.entrySet()) {
+            Map.Entry<Long, Double> candidate = Map.entry(entry.getKey(), entry.getValue());
+            if (top.size() < capacity) {
+                top.offer(candidate);
+            } else if (candidate.getValue() > top.peek().getValue()) {
+                top.poll();
+                top.offer(candidate);
+            }
+        }
+        List<Map.Entry<Long, Double>> sorted = new ArrayList<>(top);
+        sorted.sort(lowestFirst.reversed());
+        return new Ranking(sorted.stream().map(Map.Entry::getKey).toList(), now);
+    }
+
+    private void evictLowest(int count) {
+        logScores.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(count)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(logScores::remove);
+    }
+
+    private RowCallbackHandler seedRow(double weight) {
+        return rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            record(rs.getLong("post_id"), weight, createdAt.toInstant());
+        };
+    }
+
+    // ln(2^(t / halfLife)) : 1970 년 기준 초 단위라 값 자체는 크지만 로그 공간이라 overflow 없음
+    private double logTime(Instant at) {
+        return at.getEpochSecond() / halfLifeSeconds * LN2 + at.getNano() / 1e9 / halfLifeSeconds * LN2;
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static final class Ranking {
+        final List<Long> postIds;
+        final Instant builtAt;
+
+        Ranking(List<Long> postIds, Instant builtAt) {
+            this.postIds = postIds;
+            this.builtAt = builtAt;
+        }
+
+        boolean isExpired(Instant now, Duration refreshInterval) {
+            return builtAt == Instant.MIN || !now.isBefore(builtAt.plus(refreshInterval));
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.sparta.mvm;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "mvm.snowflake.node-id=0")
 class MvmApplicationTests {
 
     @Test
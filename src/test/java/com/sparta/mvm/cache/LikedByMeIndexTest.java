@@ -0,0 +1,59 @@
+package com.sparta.mvm.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LikedByMeIndexTest {
+
+    private final LikedByMeIndex index = new LikedByMeIndex(mock(JdbcTemplate.class));
+
+    @DisplayName("좋아요를 누른 사용자만 likedByMe")
+    @Test
+    void containsOnlyLikers() {
+        // given
+        index.addPostLike(1L, 10L);
+        index.addPostLike(1L, 1L << 40);
+
+        // when & then
+        assertThat(index.isPostLikedBy(1L, 10L)).isTrue();
+        assertThat(index.isPostLikedBy(1L, 1L << 40)).isTrue();
+        assertThat(index.isPostLikedBy(1L, 11L)).isFalse();
+        assertThat(index.isPostLikedBy(2L, 10L)).isFalse();
+        assertThat(index.isCommentLikedBy(1L, 10L)).isFalse();
+    }
+
+    @DisplayName("마지막 좋아요가 취소되면 비트맵도 제거")
+    @Test
+    void removesEmptyBitmap() {
+        // given
+        index.addCommentLike(5L, 10L);
+        assertThat(index.getSizeInBytes()).isPositive();
+
+        // when
+        index.removeCommentLike(5L, 10L);
+
+        // then
+        assertThat(index.isCommentLikedBy(5L, 10L)).isFalse();
+        assertThat(index.getTargetCount()).isZero();
+        assertThat(index.getSizeInBytes()).isZero();
+    }
+
+    @DisplayName("게시글 삭제 시 해당 게시글의 좋아요 정보 제거")
+    @Test
+    void removePost() {
+        // given
+        index.addPostLike(1L, 10L);
+        index.addPostLike(2L, 10L);
+
+        // when
+        index.removePost(1L);
+
+        // then
+        assertThat(index.isPostLikedBy(1L, 10L)).isFalse();
+        assertThat(index.isPostLikedBy(2L, 10L)).isTrue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sparta.mvm.cache;
+
+import com.sparta.mvm.dto.PostPageResponseDto;
+import com.sparta.mvm.dto.PostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostFeedCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    private PostResponseDto post(long id) {
+        return PostResponseDto.builder()
+                .id(id)
+                .username("user1")
+                .contents("내용 " + id)
+                .createdAt(BASE.plusSeconds(id))
+                .build();
+    }
+
+    private List<PostResponseDto> posts(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(this::post).toList();
+    }
+
+    @DisplayName("워밍 전에는 캐시 미스")
+    @Test
+    void missBeforeWarm() {
+        // given
+        PostFeedCache cache = new PostFeedCache(5);
+
+        // when
+        PostPageResponseDto page = cache.firstPage(3);
+
+        // then
+        assertThat(page).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("전체 게시글이 캐시에 들어있으면 마지막 페이지 커서는 null")
+    @Test
+    void completeCacheServesWithoutCursor() {
+        // given
+        PostFeedCache cache = new PostFeedCache(5);
+        cache.warm(() -> posts(1, 3));
+
+        // when
+        PostPageResponseDto page = cache.firstPage(10);
+
+        // then
+        assertThat(page.getNewsFeed()).extracting(PostResponseDto::getId).containsExactly(3L, 2L, 1L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("새 게시글은 맨 앞에 추가되고 용량을 넘으면 가장 오래된 게시글이 빠짐")
+    @Test
+    void addEvictsOldest() {
+        // given
+        PostFeedCache cache = new PostFeedCache(3);
+        cache.warm(() -> posts(1, 3));
+
+        // when
+        cache.add(post(4));
+        PostPageResponseDto page = cache.firstPage(3);
+
+        // then
+        assertThat(page.getNewsFeed()).extracting(PostResponseDto::getId).containsExactly(4L, 3L, 2L);
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @DisplayName("일부만 캐시된 상태에서 삭제로 limit 보다 적어지면 DB 조회로 넘김")
+    @Test
+    void partialCacheMissesAfterDelete() {
+        // given
+        PostFeedCache cache = new PostFeedCache(3);
+        cache.warm(() -> posts(1, 4));
+
+        // when
+        cache.remove(4L);
+
+        // then
+        assertThat(cache.firstPage(3)).isNull();
+        assertThat(cache.firstPage(2).getNewsFeed()).extracting(PostResponseDto::getId).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("캐시 범위 밖 게시글 수정은 무시")
+    @Test
+    void replaceIgnoresUncachedPost() {
+        // given
+        PostFeedCache cache = new PostFeedCache(2);
+        cache.warm(() -> posts(1, 3));
+
+        // when
+        cache.replace(post(1));
+        cache.replace(PostResponseDto.builder().id(3L).contents("수정").createdAt(BASE.plusSeconds(3)).build());
+
+        // then
+        assertThat(cache.firstPage(2).getNewsFeed())
+                .extracting(PostResponseDto::getContents)
+                .containsExactly("수정", "내용 2");
+    }
+
+    @DisplayName("삭제로 줄어든 캐시는 미스가 나면 DB 에서 다시 채워 캐시로 응답")
+    @Test
+    void refillAfterDelete() {
+        // given
+        PostFeedCache cache = new PostFeedCache(3);
+        cache.warm(() -> posts(1, 4));
+        cache.remove(4L);
+        assertThat(cache.firstPage(3)).isNull();
+
+        // when
+        boolean refilled = cache.refill(() -> posts(1, 3));
+
+        // then
+        assertThat(refilled).isTrue();
+        assertThat(cache.firstPage(3).getNewsFeed()).extracting(PostResponseDto::getId).containsExactly(3L, 2L, 1L);
+        assertThat(cache.refill(() -> posts(1, 3))).isFalse();
+    }
+
+    @DisplayName("늦게 커밋된 게시글도 정렬된 위치에 들어감")
+    @Test
+    void addKeepsOrder() {
+        // given
+        PostFeedCache cache = new PostFeedCache(5);
+        cache.warm(() -> List.of(post(1), post(2), post(4)));
+
+        // when
+        cache.add(post(3));
+        cache.add(post(5));
+
+        // then
+        assertThat(cache.firstPage(5).getNewsFeed()).extracting(PostResponseDto::getId).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sparta.mvm.cache;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = new UserCache(userRepository, 100, Duration.ofMinutes(5));
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("user1", "password", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("username 으로 한 번 조회하면 username, id 모두 DB 조회 없이 응답")
+    void cachesByUsernameAndId() {
+        // When
+        userCache.findByUsername("user1");
+        Optional<User> byUsername = userCache.findByUsername("user1");
+        Optional<User> byId = userCache.findById(1L);
+
+        // Then
+        assertThat(byUsername).containsSame(user);
+        assertThat(byId).containsSame(user);
+        verify(userRepository, times(1)).findByUsername("user1");
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회는 DB 에서 다시 읽음")
+    void invalidate() {
+        // Given
+        userCache.findByUsername("user1");
+
+        // When
+        userCache.invalidate(user);
+        userCache.findByUsername("user1");
+
+        // Then
+        verify(userRepository, times(2)).findByUsername("user1");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않음")
+    void doesNotCacheMissingUser() {
+        // Given
+        when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        // When
+        Optional<User> first = userCache.findByUsername("nobody");
+        userCache.findByUsername("nobody");
+
+        // Then
+        assertThat(first).isEmpty();
+        verify(userRepository, times(2)).findByUsername("nobody");
+    }
+}
@@ -1,6 +1,8 @@
 package com.sparta.mvm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.config.ClockConfig;
 import com.sparta.mvm.config.SecurityConfig;
 import com.sparta.mvm.dto.CommentRequestDto;
 import com.sparta.mvm.dto.CommentResponseDto;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -54,6 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 )
 @WithMockUser
 @MockBean(JpaMetamodelMappingContext.class)
+@Import({ResourceVersions.class, ClockConfig.class})
 class CommentControllerTest {
 
     @Autowired
@@ -116,7 +120,7 @@ class CommentControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.msg", is("댓글 등록 성공 💌")))
                 .andExpect(jsonPath("$.statusCode", is(200)))
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.comments", is("댓글 테스트")))
                 .andReturn();
 
@@ -145,7 +149,7 @@ class CommentControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.newFeed_Comment[0].id", is(1)))
+                .andExpect(jsonPath("$.newFeed_Comment[0].id", is("1")))
                 .andExpect(jsonPath("$.newFeed_Comment[0].comments", is("댓글 테스트")))
                 .andExpect(jsonPath("$.newFeed_Comment[0].statusCode", is(200)))
                 .andExpect(jsonPath("$.newFeed_Comment[0].msg", is("댓글 조회 성공 🎉")))
@@ -180,7 +184,7 @@ class CommentControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.comments", is("댓글 테스트")))
                 .andExpect(jsonPath("$.msg", is("댓글 수정 성공 🎉")))
                 .andExpect(jsonPath("$.statusCode", is(200)))
@@ -1,7 +1,10 @@
 package com.sparta.mvm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.config.ClockConfig;
 import com.sparta.mvm.config.SecurityConfig;
+import com.sparta.mvm.dto.PostPageResponseDto;
 import com.sparta.mvm.dto.PostRequestDto;
 import com.sparta.mvm.dto.PostResponseDto;
 import com.sparta.mvm.entity.User;
@@ -19,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -32,12 +36,15 @@ import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -54,6 +61,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 )
 @WithMockUser
 @MockBean(JpaMetamodelMappingContext.class)
+@Import({ResourceVersions.class, ClockConfig.class})
 public class PostControllerTest {
 
     @Autowired
@@ -67,6 +75,9 @@ public class PostControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     @Autowired
     private WebApplicationContext context;
 
@@ -117,7 +128,7 @@ public class PostControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.msg", is("게시글 등록 성공 🎉")))
                 .andExpect(jsonPath("$.statusCode", is(200)))
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.username", is("user1")))
                 .andExpect(jsonPath("$.contents", is("내용 테스트")))
                 .andReturn();
@@ -138,7 +149,7 @@ public class PostControllerTest {
                 .username("user1")
                 .build();
         List<PostResponseDto> responseDtoList = Collections.singletonList(responseDto);
-        given(postService.getAll()).willReturn(responseDtoList);
+        given(postService.getAll(isNull(), eq(20))).willReturn(new PostPageResponseDto(responseDtoList, "nextCursor"));
 
         // When
         MvcResult result = mockMvc.perform(get("/posts")
@@ -146,9 +157,10 @@ public class PostControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.newsFeed[0].id", is(1)))
+                .andExpect(jsonPath("$.newsFeed[0].id", is("1")))
                 .andExpect(jsonPath("$.newsFeed[0].contents", is("내용 테스트")))
                 .andExpect(jsonPath("$.newsFeed[0].username", is("user1")))
+                .andExpect(jsonPath("$.nextCursor", is("nextCursor")))
                 .andReturn();
 
         // Then
@@ -156,6 +168,56 @@ public class PostControllerTest {
         System.out.println("Response: " + content);
     }
 
+    @Test
+    @DisplayName("게시글 전체 내보내기 - 서비스가 넘겨주는 대로 JSON 배열로 스트리밍")
+    @SuppressWarnings("unchecked")
+    void streamPosts() throws Exception {
+        // Given
+        mockUserSetup();
+        willAnswer(invocation -> {
+            Consumer<PostResponseDto> consumer = invocation.getArgument(1);
+            consumer.accept(PostResponseDto.builder().id(2L).contents("두 번째").build());
+            consumer.accept(PostResponseDto.builder().id(1L).contents("첫 번째").build());
+            return null;
+        }).given(postService).streamAll(any(), any(Consumer.class));
+
+        // When
+        MvcResult started = mockMvc.perform(get("/posts/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.newsFeed.length()", is(2)))
+                .andExpect(jsonPath("$.newsFeed[0].id", is("2")))
+                .andExpect(jsonPath("$.newsFeed[1].contents", is("첫 번째")));
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - ETag 가 같으면 304, 게시글이 바뀌면 200")
+    void getPostByIdNotModified() throws Exception {
+        // Given
+        mockUserSetup();
+        long postId = 1L;
+        given(postService.findById(postId)).willReturn(PostResponseDto.builder().id(postId).build());
+        String etag = mockMvc.perform(get("/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/posts/{postId}", postId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(postService, times(1)).findById(postId);
+
+        resourceVersions.postChanged(postId);
+        mockMvc.perform(get("/posts/{postId}", postId).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        verify(postService, times(2)).findById(postId);
+    }
 
     @Test
     @DisplayName("게시글 부분 조회 테스트")
@@ -182,7 +244,7 @@ public class PostControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.contents", is("내용 테스트")))
                 .andExpect(jsonPath("$.username", is("user1")))
                 .andExpect(jsonPath("$.msg", is("게시글 조회 성공 🎉")))
@@ -217,7 +279,7 @@ public class PostControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.id", is("1")))
                 .andExpect(jsonPath("$.contents", is("내용 테스트")))
                 .andExpect(jsonPath("$.username", is("user1")))
                 .andExpect(jsonPath("$.msg", is("게시글 수정 성공 🎉")))
@@ -0,0 +1,186 @@
+package com.sparta.mvm.datasource;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.security.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 내장 H2 두 개를 primary / replica 로 두고, 각 DB 에 자기 이름을 넣어 어느 쪽에서 읽었는지 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 그 외는 primary 에서 실행")
+    void routesByReadOnly() {
+        // Given
+        TransactionTemplate transactions = transactions(List.of(replica));
+
+        // When & Then
+        assertThat(whereAmI(transactions, true)).isEqualTo("replica");
+        assertThat(whereAmI(transactions, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 일정 기간 동안 본인의 읽기는 primary 에서 실행")
+    void readYourWrites() {
+        // Given
+        TransactionTemplate transactions = transactions(List.of(replica));
+        login(1L);
+
+        // When
+        whereAmI(transactions, false);
+
+        // Then
+        assertThat(whereAmI(transactions, true)).isEqualTo("primary");
+        login(2L);
+        assertThat(whereAmI(transactions, true)).isEqualTo("replica");
+        login(1L);
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(whereAmI(transactions, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 커넥션 실패 시 primary 로 대신 읽고, 재시도 시간 전에는 replica 를 시도하지 않음")
+    void fallsBackWhenReplicaDown() throws SQLException {
+        // Given
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        TransactionTemplate transactions = transactions(List.of(down));
+
+        // When & Then
+        assertThat(whereAmI(transactions, true)).isEqualTo("primary");
+        assertThat(whereAmI(transactions, true)).isEqualTo("primary");
+        verify(down, times(1)).getConnection();
+
+        clock.advance(Duration.ofSeconds(31));
+        whereAmI(transactions, true);
+        verify(down, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("PrimaryReads 범위 안의 readOnly 조회는 primary 에서 실행")
+    void primaryReads() {
+        // Given
+        TransactionTemplate transactions = transactions(List.of(replica));
+
+        // When & Then
+        assertThat(PrimaryReads.call(() -> whereAmI(transactions, true))).isEqualTo("primary");
+        assertThat(whereAmI(transactions, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("계정을 지정한 커넥션 요청은 고른 대상에 계정 그대로 전달")
+    void delegatesCredentials() throws SQLException {
+        // Given
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection("user", "secret")).thenReturn(connection);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(target, List.of(),
+                new ReadYourWrites(clock, Duration.ofSeconds(5), 100), clock, Duration.ofSeconds(30));
+
+        // When & Then
+        assertThat(routing.getConnection("user", "secret")).isSameAs(connection);
+        verify(target, never()).getConnection();
+    }
+
+    private TransactionTemplate transactions(List<DataSource> replicas) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas,
+                new ReadYourWrites(clock, Duration.ofSeconds(5), 100), clock, Duration.ofSeconds(30));
+        this.dataSource = new LazyConnectionDataSourceProxy(routing);
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private String whereAmI(TransactionTemplate transactions, boolean readOnly) {
+        transactions.setReadOnly(readOnly);
+        return transactions.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from route", String.class));
+    }
+
+    private void login(Long userId) {
+        User user = new User("user" + userId, "password", "이름", "user@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(userId);
+        UserDetailsImpl principal = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table route (name varchar(20))");
+        jdbcTemplate.update("insert into route (name) values (?)", name);
+        return database;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sparta.mvm.dto;
+
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PostCursorTest {
+
+    @DisplayName("커서 인코딩 후 디코딩 시 동일한 값 복원")
+    @Test
+    void encodeAndDecode() {
+        // given
+        PostCursor cursor = new PostCursor(42L);
+
+        // when
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @DisplayName("이전 형식(createdAt,id) 커서는 id 만 읽어 디코딩")
+    @Test
+    void decodeLegacyCursor() {
+        // given
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-06-01T12:30:15.123456,42".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        PostCursor decoded = PostCursor.decode(legacy);
+
+        // then
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @DisplayName("잘못된 커서 디코딩 시 BAD_CURSOR 예외 발생")
+    @Test
+    void decodeInvalidCursor() {
+        // when - then
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorEnum.BAD_CURSOR.getMsg());
+    }
+}
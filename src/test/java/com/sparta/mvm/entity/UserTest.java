@@ -73,19 +73,6 @@ public class UserTest {
         assertThat(user.getUserStatus()).isEqualTo(UserStatusEnum.USER_RESIGN);
     }
 
-    @DisplayName("User Entity Refresh Token 설정 테스트")
-    @Test
-    void setUserRefreshToken() {
-        // given
-        String refreshToken = "abc123def456";
-
-        // when
-        user.setRefreshToken(refreshToken);
-
-        // then
-        assertThat(user.getRefreshToken()).isEqualTo(refreshToken);
-    }
-
     @Nested
     @DisplayName("User Entity 생성 실패 테스트")
     class CreateInvalidUserEntity {
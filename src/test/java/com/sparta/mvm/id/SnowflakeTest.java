@@ -0,0 +1,76 @@
+package com.sparta.mvm.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 계속 증가")
+    void monotonicWhenClockGoesBack() {
+        // Given
+        AtomicLong now = new AtomicLong(Snowflake.EPOCH + 10_000);
+        Snowflake snowflake = new Snowflake(3, now::get);
+        long first = snowflake.nextId();
+
+        // When
+        now.addAndGet(-5_000);
+        long second = snowflake.nextId();
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+        assertThat(Snowflake.timestampOf(second)).isEqualTo(Snowflake.timestampOf(first));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번이 다 차면 다음 밀리초를 당겨 씀")
+    void borrowsNextMillisOnSequenceOverflow() {
+        // Given
+        Snowflake snowflake = new Snowflake(0, () -> Snowflake.EPOCH + 1_000);
+        Set<Long> ids = new HashSet<>();
+        long last = -1;
+
+        // When
+        for (int i = 0; i < (1 << Snowflake.SEQUENCE_BITS) + 1; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+            ids.add(id);
+        }
+
+        // Then
+        assertThat(ids).hasSize((1 << Snowflake.SEQUENCE_BITS) + 1);
+        assertThat(Snowflake.timestampOf(last).toEpochMilli()).isEqualTo(Snowflake.EPOCH + 1_001);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 다르면 같은 시각에도 ID 가 겹치지 않음")
+    void nodeIdSeparatesIds() {
+        // Given
+        Snowflake node1 = new Snowflake(1, () -> Snowflake.EPOCH + 1_000);
+        Snowflake node2 = new Snowflake(2, () -> Snowflake.EPOCH + 1_000);
+
+        // When
+        long id1 = node1.nextId();
+        long id2 = node2.nextId();
+
+        // Then
+        assertThat(id1).isNotEqualTo(id2);
+        assertThat((id1 >>> Snowflake.SEQUENCE_BITS) & Snowflake.MAX_NODE_ID).isEqualTo(1);
+        assertThat((id2 >>> Snowflake.SEQUENCE_BITS) & Snowflake.MAX_NODE_ID).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외")
+    void rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
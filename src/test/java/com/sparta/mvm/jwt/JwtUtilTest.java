@@ -0,0 +1,119 @@
+package com.sparta.mvm.jwt;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET_KEY, 100, clock);
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("user1", "password", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        accessToken = jwtUtil.substringToken(jwtUtil.createAccessToken(user));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 캐시된 claim 을 반환")
+    void cachesVerifiedClaims() {
+        // When
+        Claims first = jwtUtil.validToken(accessToken, JwtTokenType.ACCESS_TOKEN, new MockHttpServletRequest());
+        Claims second = jwtUtil.getUserInfoFromToken(accessToken);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.getUserId(first)).isEqualTo(1L);
+        assertThat(jwtUtil.getUserStatus(first)).isEqualTo(UserStatusEnum.USER_NORMAL);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 검증 실패")
+    void rejectsTamperedToken() {
+        // Given
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+        HttpServletRequest request = new MockHttpServletRequest();
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.validToken(tampered, JwtTokenType.ACCESS_TOKEN, request))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(request.getAttribute("NOT_VALID_TOKEN")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 만료 처리")
+    void cachedTokenExpires() {
+        // Given
+        jwtUtil.getUserInfoFromToken(accessToken);
+        HttpServletRequest request = new MockHttpServletRequest();
+
+        // When
+        clock.advance(Duration.ofMillis(JwtUtil.TOKEN_TIME).plusSeconds(1));
+
+        // Then
+        assertThatThrownBy(() -> jwtUtil.getUserInfoFromToken(accessToken))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.validToken(accessToken, JwtTokenType.ACCESS_TOKEN, request))
+                .hasMessage("만료된 토큰 오류");
+    }
+
+    @Test
+    @DisplayName("인증 필터가 넣어 둔 claim 이 있으면 다시 파싱하지 않음")
+    void accessClaimsFromRequest() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Claims claims = jwtUtil.getUserInfoFromToken(accessToken);
+        request.setAttribute(JwtUtil.ACCESS_CLAIMS_ATTRIBUTE, claims);
+
+        // When & Then
+        assertThat(jwtUtil.getAccessClaims(request)).isSameAs(claims);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
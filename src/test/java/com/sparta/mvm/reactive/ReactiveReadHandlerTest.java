@@ -0,0 +1,201 @@
+package com.sparta.mvm.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.dto.CommentSummaryDto;
+import com.sparta.mvm.dto.PostCursor;
+import com.sparta.mvm.dto.PostResponseDto;
+import com.sparta.mvm.dto.PostSummaryDto;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.jwt.JwtUtil;
+import com.sparta.mvm.security.TokenDenyList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ReactiveReadHandlerTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    private final ReactiveReadRepository repository = mock(ReactiveReadRepository.class);
+    private final LikedByMeIndex likedByMeIndex = mock(LikedByMeIndex.class);
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET_KEY, 100, Clock.systemDefaultZone());
+    private final TokenDenyList tokenDenyList = new TokenDenyList(Clock.systemDefaultZone(), 100);
+    private final PostFeedCache postFeedCache = new PostFeedCache(5);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ReactiveReadHandler handler = new ReactiveReadHandler(repository, jwtUtil, tokenDenyList,
+            postFeedCache, likedByMeIndex, objectMapper);
+    private final WebTestClient client = WebTestClient
+            .bindToRouterFunction(ReactiveReadServer.routes(handler))
+            .handlerStrategies(ReactiveReadServer.strategies(objectMapper))
+            .build();
+
+    private WebTestClient.RequestHeadersSpec<?> get(String uri) {
+        return client.get().uri(uri)
+                .cookie(JwtUtil.ACCESS_TOKEN_HEADER, cookieValue(JwtUtil.TOKEN_TIME))
+                .cookie(JwtUtil.REFRESH_TOKEN_HEADER, cookieValue(JwtUtil.TOKEN_TIME * 2));
+    }
+
+    private String cookieValue(long expiration) {
+        String token = jwtUtil.createToken("user1", 1L, UserStatusEnum.USER_NORMAL, expiration);
+        return URLEncoder.encode(token, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+    }
+
+    private static PostSummaryDto post(long id) {
+        return new PostSummaryDto(id, "user1", "내용 " + id, 0, BASE.plusSeconds(id), BASE.plusSeconds(id));
+    }
+
+    private static CommentSummaryDto comment(long id) {
+        return new CommentSummaryDto(id, "user1", "댓글 " + id, 0, BASE.plusSeconds(id), BASE.plusSeconds(id));
+    }
+
+    @Test
+    @DisplayName("토큰 쿠키가 없으면 MVC 와 같은 형식으로 거부하고 DB 를 읽지 않음")
+    void rejectsWithoutToken() {
+        client.get().uri("/comments")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(400)
+                .jsonPath("$.msg").isEqualTo("유효하지 않은 토큰입니다");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 사용자의 토큰은 거부")
+    void rejectsRevokedToken() {
+        // Given
+        WebTestClient.RequestHeadersSpec<?> request = get("/comments");
+        tokenDenyList.revokeIssuedUntilNow(1L);
+
+        // When & Then
+        request.exchange().expectStatus().isBadRequest();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - DB 에서 읽는 대로 newFeed_Comment 배열로 쓰고 id 는 문자열, likedByMe 표시")
+    void streamsComments() {
+        // Given
+        when(repository.streamComments()).thenReturn(Flux.just(comment(3L), comment(2L), comment(1L)));
+        when(likedByMeIndex.isCommentLikedBy(2L, 1L)).thenReturn(true);
+
+        // When & Then
+        get("/comments").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.newFeed_Comment.length()").isEqualTo(3)
+                .jsonPath("$.newFeed_Comment[0].id").isEqualTo("3")
+                .jsonPath("$.newFeed_Comment[1].likedByMe").isEqualTo(true)
+                .jsonPath("$.newFeed_Comment[2].comments").isEqualTo("댓글 1");
+    }
+
+    @Test
+    @DisplayName("댓글이 없으면 MVC 와 같은 안내 메시지")
+    void emptyComments() {
+        // Given
+        when(repository.streamComments()).thenReturn(Flux.empty());
+
+        // When & Then
+        get("/comments").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(200)
+                .jsonPath("$.msg").isEqualTo("먼저 댓글을 작성해 보세요 📝");
+    }
+
+    @Test
+    @DisplayName("게시글 부분 조회 - replica 에서 읽으므로 ETag, Last-Modified 없이 매번 DB 조회")
+    void postWithoutValidators() {
+        // Given
+        when(repository.findPost(1L)).thenReturn(Mono.just(post(1L)));
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            get("/posts/1").exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                    .expectHeader().doesNotExist(HttpHeaders.LAST_MODIFIED)
+                    .expectBody().jsonPath("$.id").isEqualTo("1");
+        }
+        verify(repository, times(2)).findPost(1L);
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 GlobalExceptionHandler 와 같은 404 응답")
+    void missingPost() {
+        // Given
+        when(repository.findPost(anyLong())).thenReturn(Mono.empty());
+
+        // When & Then
+        get("/posts/9").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(400)
+                .jsonPath("$.msg").isEqualTo("게시글 ID를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("뉴스피드 - 한 건 더 읽어 다음 페이지 커서를 만들고, 커서로 다음 페이지 조회")
+    void feedPages() {
+        // Given
+        when(repository.findFirstPage(3)).thenReturn(Flux.just(post(5L), post(4L), post(3L)));
+        when(repository.findPageBefore(4L, 3)).thenReturn(Flux.just(post(3L)));
+
+        // When & Then
+        get("/posts?limit=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.newsFeed.length()").isEqualTo(2)
+                .jsonPath("$.nextCursor").isEqualTo(new PostCursor(4L).encode());
+        get("/posts?limit=2&after=" + new PostCursor(4L).encode()).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.newsFeed[0].id").isEqualTo("3")
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("뉴스피드 첫 페이지는 최신 게시글 캐시가 있으면 DB 를 읽지 않음")
+    void feedFromCache() {
+        // Given
+        postFeedCache.warm(() -> LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> PostResponseDto.toDto("게시글 조회 성공 🎉", 200, post(id)))
+                .toList());
+
+        // When & Then
+        get("/posts?limit=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.newsFeed[0].id").isEqualTo("3");
+        verify(repository, never()).findFirstPage(anyInt());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400")
+    void badCursor() {
+        get("/posts?after=!!").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.msg").isEqualTo("잘못된 커서 값입니다.");
+        verify(repository, never()).findPageBefore(anyLong(), anyInt());
+    }
+}
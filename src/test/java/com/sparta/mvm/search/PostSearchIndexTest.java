@@ -0,0 +1,103 @@
+package com.sparta.mvm.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class PostSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    private PostSearchIndex newIndex() {
+        return new PostSearchIndex(mock(JdbcTemplate.class), "unused");
+    }
+
+    @DisplayName("한글은 2-gram, 영문은 소문자 단어로 토큰화")
+    @Test
+    void tokenize() {
+        assertThat(PostTokenizer.tokenize("오늘 뉴스피드 Spring!"))
+                .containsExactly("오늘", "뉴스", "스피", "피드", "spring");
+    }
+
+    @DisplayName("띄어쓰기와 조사가 달라도 검색되고, 일치하는 단어가 많은 게시글이 먼저")
+    @Test
+    void searchRanksByRelevance() {
+        // given
+        PostSearchIndex index = newIndex();
+        index.index(1L, "오늘 점심은 김치찌개", NOW);
+        index.index(2L, "김치찌개 맛집 김치찌개 추천", NOW);
+        index.index(3L, "저녁은 파스타", NOW);
+
+        // when
+        SearchHits hits = index.search("김치찌개를", 0, 10);
+
+        // then
+        assertThat(hits.getPostIds()).containsExactly(2L, 1L);
+        assertThat(hits.getTotalHits()).isEqualTo(2);
+    }
+
+    @DisplayName("수정된 게시글은 새 본문으로, 삭제된 게시글은 검색되지 않음")
+    @Test
+    void updateAndRemove() {
+        // given
+        PostSearchIndex index = newIndex();
+        index.index(1L, "spring boot", NOW);
+        index.index(2L, "spring data", NOW);
+
+        // when
+        index.index(1L, "jpa entity", NOW.plusMinutes(1));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("spring", 0, 10).getPostIds()).isEmpty();
+        assertThat(index.search("jpa", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.getDocumentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("offset, limit 으로 페이지 단위 조회")
+    @Test
+    void paginate() {
+        // given
+        PostSearchIndex index = newIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "공지 " + id, NOW);
+        }
+
+        // when
+        SearchHits hits = index.search("공지", 2, 2);
+
+        // then
+        assertThat(hits.getPostIds()).containsExactly(3L, 2L);
+        assertThat(hits.getTotalHits()).isEqualTo(5);
+    }
+
+    @DisplayName("스냅샷으로 저장한 색인을 그대로 복원")
+    @Test
+    void snapshotRoundTrip(@TempDir Path dir) throws IOException {
+        // given
+        Path snapshot = dir.resolve("post-search.snapshot");
+        PostSearchIndex index = newIndex();
+        index.index(1L, "오늘 점심은 김치찌개", NOW);
+        index.index(2L, "저녁은 파스타", NOW);
+        index.remove(2L);
+        index.save(snapshot);
+
+        // when
+        PostSearchIndex restored = newIndex();
+        boolean result = restored.restore(snapshot);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(restored.getDocumentCount()).isEqualTo(1);
+        assertThat(restored.search("김치", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(restored.search("파스타", 0, 10).getPostIds()).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class CurrentUserTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CurrentUser currentUser = new CurrentUser(userRepository);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("principal 의 ID 로 지연 참조를 만들고 사용자를 조회하지 않음")
+    void referenceWithoutLookup() {
+        // Given
+        User user = new User("user1", "password", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        UserDetailsImpl principal = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        User reference = mock(User.class);
+        when(userRepository.getReferenceById(1L)).thenReturn(reference);
+
+        // When & Then
+        assertThat(currentUser.getId()).isEqualTo(1L);
+        assertThat(currentUser.getUsername()).isEqualTo("user1");
+        assertThat(currentUser.getReference()).isSameAs(reference);
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청이면 예외")
+    void unauthenticated() {
+        // When & Then
+        assertThat(currentUser.getIdOrNull()).isNull();
+        assertThatThrownBy(currentUser::getId)
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.USER_NOT_FOUND);
+    }
+}
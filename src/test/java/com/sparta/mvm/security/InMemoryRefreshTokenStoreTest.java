@@ -0,0 +1,94 @@
+package com.sparta.mvm.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock, 100);
+
+    @Test
+    @DisplayName("기기마다 따로 저장하고, 로그아웃한 기기의 토큰만 삭제")
+    void multipleDevices() {
+        // Given
+        Instant expiresAt = clock.instant().plus(Duration.ofDays(14));
+        store.save(1L, "phone-token", expiresAt);
+        store.save(1L, "laptop-token", expiresAt);
+
+        // When
+        store.delete("phone-token");
+
+        // Then
+        assertThat(store.exists(1L, "phone-token")).isFalse();
+        assertThat(store.exists(1L, "laptop-token")).isTrue();
+        assertThat(store.exists(2L, "laptop-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("탈퇴하면 사용자의 모든 토큰 삭제")
+    void deleteAll() {
+        // Given
+        Instant expiresAt = clock.instant().plus(Duration.ofDays(14));
+        store.save(1L, "phone-token", expiresAt);
+        store.save(1L, "laptop-token", expiresAt);
+        store.save(2L, "other-token", expiresAt);
+
+        // When
+        store.deleteAll(1L);
+
+        // Then
+        assertThat(store.exists(1L, "phone-token")).isFalse();
+        assertThat(store.exists(1L, "laptop-token")).isFalse();
+        assertThat(store.exists(2L, "other-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 없는 것으로 봄")
+    void expires() {
+        // Given
+        store.save(1L, "token", clock.instant().plus(Duration.ofDays(14)));
+
+        // When
+        clock.advance(Duration.ofDays(14));
+        store.sweep();
+
+        // Then
+        assertThat(store.exists(1L, "token")).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
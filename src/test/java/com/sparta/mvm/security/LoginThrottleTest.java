@@ -0,0 +1,111 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    // username 3회, IP 10회, 윈도 1분, 차단 1초부터 최대 1분
+    private final LoginThrottle loginThrottle = new LoginThrottle(clock, 3, 10,
+            Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofMinutes(1), 100);
+
+    @Test
+    @DisplayName("username 실패가 한도에 닿으면 차단하고, 이후 실패마다 차단 시간이 두 배")
+    void backoffPerUsername() {
+        // Given
+        failTimes("user1", "10.0.0.1", 3);
+
+        // When & Then
+        assertRejected("user1", "10.0.0.2");
+        assertThatCode(() -> loginThrottle.check("user2", "10.0.0.1")).doesNotThrowAnyException();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatCode(() -> loginThrottle.check("user1", "10.0.0.1")).doesNotThrowAnyException();
+        loginThrottle.recordFailure("user1", "10.0.0.1");
+        clock.advance(Duration.ofSeconds(1));
+        assertRejected("user1", "10.0.0.1");
+        clock.advance(Duration.ofSeconds(1));
+        assertThatCode(() -> loginThrottle.check("user1", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("여러 username 을 시도하는 IP 는 IP 한도로 차단")
+    void blocksIp() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.recordFailure("user" + i, "10.0.0.1");
+        }
+
+        // When & Then
+        assertRejected("another", "10.0.0.1");
+        assertThatCode(() -> loginThrottle.check("another", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하거나 윈도가 지나면 username 실패 기록이 사라짐")
+    void resets() {
+        // Given
+        failTimes("user1", "10.0.0.1", 2);
+        loginThrottle.recordSuccess("user1");
+        failTimes("user1", "10.0.0.1", 2);
+
+        // When
+        clock.advance(Duration.ofMinutes(3));
+        failTimes("user1", "10.0.0.1", 2);
+
+        // Then
+        assertThatCode(() -> loginThrottle.check("user1", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    private void failTimes(String username, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            loginThrottle.recordFailure(username, ip);
+        }
+    }
+
+    private void assertRejected(String username, String ip) {
+        assertThatThrownBy(() -> loginThrottle.check(username, ip))
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
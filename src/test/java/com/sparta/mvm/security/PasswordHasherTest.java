@@ -0,0 +1,67 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    // 스레드 1개, 대기열 1개
+    private final PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 계산한 결과를 돌려줌")
+    void encode() {
+        // Given
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+
+        // When
+        String encoded = passwordHasher.encode("password").join();
+
+        // Then
+        assertThat(encoded).isEqualTo("encodedPassword");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 SERVER_BUSY")
+    void rejectsWhenFull() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        CompletableFuture<Boolean> running = passwordHasher.matches("a", "b");
+        started.await();
+        CompletableFuture<Boolean> queued = passwordHasher.matches("a", "b");
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHasher.matches("a", "b"))
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.SERVER_BUSY);
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.mvm.security;
+
+import com.sparta.mvm.jwt.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenyListTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    private final TokenDenyList tokenDenyList = new TokenDenyList(clock, 100);
+
+    @Test
+    @DisplayName("로그아웃 - 그 이전에 발급된 토큰만 거부")
+    void revokeIssuedUntilNow() {
+        // Given
+        Date before = Date.from(clock.instant().minusSeconds(60));
+
+        // When
+        tokenDenyList.revokeIssuedUntilNow(1L);
+        clock.advance(Duration.ofSeconds(1));
+        Date after = Date.from(clock.instant());
+
+        // Then
+        assertThat(tokenDenyList.isRevoked(1L, before)).isTrue();
+        assertThat(tokenDenyList.isRevoked(1L, after)).isFalse();
+        assertThat(tokenDenyList.isRevoked(2L, before)).isFalse();
+    }
+
+    @Test
+    @DisplayName("탈퇴 - 발급 시각과 관계없이 거부하고, 액세스 토큰 유효 시간이 지나면 기록 삭제")
+    void revokeAllUntilTokenLifetime() {
+        // When
+        tokenDenyList.revokeAll(1L);
+
+        // Then
+        assertThat(tokenDenyList.isRevoked(1L, Date.from(clock.instant().plusSeconds(60)))).isTrue();
+        clock.advance(Duration.ofMillis(JwtUtil.TOKEN_TIME).plusSeconds(1));
+        assertThat(tokenDenyList.isRevoked(1L, Date.from(clock.instant()))).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.UserCache;
+import com.sparta.mvm.dto.LoginRequestDto;
+import com.sparta.mvm.entity.User;
+import com.sparta.mvm.entity.UserStatusEnum;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.jwt.JwtUtil;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.security.LoginThrottle;
+import com.sparta.mvm.security.PasswordHasher;
+import com.sparta.mvm.security.RefreshTokenStore;
+import com.sparta.mvm.security.TokenDenyList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private static final String SECRET_KEY = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final LoginThrottle loginThrottle = mock(LoginThrottle.class);
+    private final AuthService authService = new AuthService(new JwtUtil(SECRET_KEY, 100, Clock.systemDefaultZone()),
+            mock(TokenDenyList.class), refreshTokenStore, mock(CurrentUser.class), userCache, passwordHasher, loginThrottle,
+            Runnable::run);
+    private final LoginRequestDto requestDto = new LoginRequestDto();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("user1", "encodedPassword", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        requestDto.setUsername("user1");
+        requestDto.setPassword("password");
+        when(userCache.findByUsername("user1")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호를 한 번 검증하고 토큰을 쿠키 헤더에 담아 리프레시 토큰을 저장")
+    void login() {
+        // Given
+        when(passwordHasher.matches("password", "encodedPassword")).thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        HttpHeaders headers = authService.login(requestDto, "127.0.0.1").join();
+
+        // Then
+        assertThat(headers.get(HttpHeaders.SET_COOKIE))
+                .hasSize(2)
+                .anySatisfy(cookie -> assertThat(cookie).startsWith(JwtUtil.ACCESS_TOKEN_HEADER + "=Bearer%20"))
+                .anySatisfy(cookie -> assertThat(cookie).startsWith(JwtUtil.REFRESH_TOKEN_HEADER + "=Bearer%20"));
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
+        verify(refreshTokenStore).save(eq(1L), anyString(), any(Instant.class));
+        verify(loginThrottle).recordSuccess("user1");
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호가 틀리면 토큰을 발급하지 않음")
+    void loginBadPassword() {
+        // Given
+        when(passwordHasher.matches("password", "encodedPassword")).thenReturn(CompletableFuture.completedFuture(false));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(requestDto, "127.0.0.1").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.BAD_PASSWORD);
+        verify(loginThrottle).recordFailure("user1", "127.0.0.1");
+        verify(refreshTokenStore, never()).save(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 - 탈퇴한 사용자는 토큰을 발급하지 않음")
+    void loginResigned() {
+        // Given
+        user.resignStatus();
+        when(passwordHasher.matches("password", "encodedPassword")).thenReturn(CompletableFuture.completedFuture(true));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(requestDto, "127.0.0.1").join())
+                .cause()
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.BAD_RESIGN);
+        verify(refreshTokenStore, never()).save(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 - 차단 중이면 사용자 조회와 비밀번호 검증 없이 거절")
+    void loginThrottled() {
+        // Given
+        doThrow(new CustomException(ErrorEnum.TOO_MANY_LOGIN_ATTEMPTS)).when(loginThrottle).check("user1", "127.0.0.1");
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(requestDto, "127.0.0.1"))
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.TOO_MANY_LOGIN_ATTEMPTS);
+        verify(userCache, never()).findByUsername(anyString());
+        verifyNoInteractions(passwordHasher);
+    }
+}
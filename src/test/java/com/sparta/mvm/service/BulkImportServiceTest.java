@@ -0,0 +1,99 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.dto.BulkResponseDto;
+import com.sparta.mvm.dto.PostRequestDto;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.id.Snowflake;
+import com.sparta.mvm.repository.PostRepository;
+import com.sparta.mvm.search.PostSearchIndex;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.trending.TrendingPosts;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BulkImportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CurrentUser currentUser = mock(CurrentUser.class);
+    private final PostFeedCache postFeedCache = mock(PostFeedCache.class);
+    private final PostSearchIndex postSearchIndex = mock(PostSearchIndex.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+    // 고정된 시계 : 같은 밀리초 안에서 순번만 증가
+    private final Snowflake snowflake = new Snowflake(1, () -> Snowflake.EPOCH + 1000);
+
+    private final BulkImportService bulkImportService = new BulkImportService(jdbcTemplate, mock(PlatformTransactionManager.class),
+            Validation.buildDefaultValidatorFactory().getValidator(), currentUser, mock(PostRepository.class), postFeedCache,
+            postSearchIndex, mock(TrendingPosts.class), mock(ResourceVersions.class), Clock.systemUTC(), snowflake, 10, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(currentUser.getId()).thenReturn(1L);
+        when(currentUser.getUsername()).thenReturn("user1");
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    batchSizes.add(setter.getBatchSize());
+                    return new int[setter.getBatchSize()];
+                });
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 검증 실패 항목은 제외하고 나머지는 chunk 단위 배치로 저장")
+    void importPostsInChunks() {
+        // Given
+        List<PostRequestDto> requests = Arrays.asList(
+                new PostRequestDto("첫 번째"),
+                new PostRequestDto(" "),
+                new PostRequestDto("세 번째"),
+                new PostRequestDto("네 번째"));
+
+        // When
+        BulkResponseDto response = bulkImportService.importPosts(requests);
+
+        // Then
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("내용을 입력해 주세요");
+        Long first = response.getResults().get(0).getId();
+        Long last = response.getResults().get(3).getId();
+        assertThat(first).isLessThan(response.getResults().get(2).getId()).isLessThan(last);
+        assertThat(Snowflake.timestampOf(last).toEpochMilli()).isEqualTo(Snowflake.EPOCH + 1000);
+        assertThat(batchSizes).containsExactly(2, 1);
+        verify(currentUser, times(1)).getId();
+        verify(postSearchIndex, times(3)).index(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 최대 개수를 넘으면 예외")
+    void importPostsTooMany() {
+        // Given
+        List<PostRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(new PostRequestDto("내용 " + i));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> bulkImportService.importPosts(requests))
+                .isInstanceOf(CustomException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
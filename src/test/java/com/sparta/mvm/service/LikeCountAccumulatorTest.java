@@ -0,0 +1,114 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.PostFeedCache;
+import com.sparta.mvm.cache.ResourceVersions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountAccumulatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PostFeedCache postFeedCache;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @InjectMocks
+    private LikeCountAccumulator likeCountAccumulator;
+
+    @Test
+    @DisplayName("같은 게시글의 증감분은 합산되어 한 번의 배치로 반영")
+    @SuppressWarnings("unchecked")
+    void flushMergesDeltas() {
+        // Given
+        likeCountAccumulator.addPostLike(1L, 1);
+        likeCountAccumulator.addPostLike(1L, 1);
+        likeCountAccumulator.addPostLike(1L, -1);
+        likeCountAccumulator.addPostLike(2L, 1);
+
+        // When
+        likeCountAccumulator.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("update posts set like_count = like_count + ? where id = ?"), captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(new Object[]{1L, 1L}, new Object[]{1L, 2L});
+        verify(postFeedCache).addLikeCount(1L, 1L);
+        verify(postFeedCache).addLikeCount(2L, 1L);
+        assertThat(likeCountAccumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("합계가 0 이면 UPDATE 하지 않음")
+    void flushSkipsZeroDelta() {
+        // Given
+        likeCountAccumulator.addCommentLike(1L, 1);
+        likeCountAccumulator.addCommentLike(1L, -1);
+
+        // When
+        likeCountAccumulator.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분을 보관했다가 다음 flush 에서 재시도")
+    void flushRetriesAfterFailure() {
+        // Given
+        likeCountAccumulator.addCommentLike(3L, 2);
+        when(jdbcTemplate.batchUpdate(eq("update comments set like_count = like_count + ? where id = ?"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        likeCountAccumulator.flush();
+
+        // Then
+        assertThat(likeCountAccumulator.getPendingCount()).isEqualTo(1);
+        assertThat(likeCountAccumulator.getFlushedRowCount()).isZero();
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("배치는 한 트랜잭션으로 보내 성공 시 한 번 커밋")
+    void flushCommitsBatchInOneTransaction() {
+        // Given
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        likeCountAccumulator.addPostLike(1L, 1);
+        likeCountAccumulator.addPostLike(2L, 1);
+
+        // When
+        likeCountAccumulator.flush();
+
+        // Then
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).commit(status);
+        assertThat(likeCountAccumulator.getFlushedRowCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,147 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.LikedByMeIndex;
+import com.sparta.mvm.cache.ResourceVersions;
+import com.sparta.mvm.dto.LikeResponseDto;
+import com.sparta.mvm.exception.CustomException;
+import com.sparta.mvm.exception.ErrorEnum;
+import com.sparta.mvm.id.Snowflake;
+import com.sparta.mvm.repository.CommentRepository;
+import com.sparta.mvm.repository.LikeRepository;
+import com.sparta.mvm.repository.PostRepository;
+import com.sparta.mvm.security.CurrentUser;
+import com.sparta.mvm.trending.TrendingPosts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CurrentUser currentUser;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeCountAccumulator likeCountAccumulator;
+
+    @Mock
+    private LikedByMeIndex likedByMeIndex;
+
+    @Mock
+    private TrendingPosts trendingPosts;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private Snowflake snowflake;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        when(currentUser.getId()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 - 새로 INSERT 되면 좋아요 수 증가")
+    void likePostInserted() {
+        // Given
+        when(likeRepository.insertPostLike(anyLong(), eq(1L), eq(10L))).thenReturn(1);
+
+        // When
+        LikeResponseDto responseDto = likeService.likePost(10L);
+
+        // Then
+        assertThat(responseDto.isLiked()).isTrue();
+        assertThat(responseDto.isChanged()).isTrue();
+        verify(likeCountAccumulator).addPostLike(10L, 1);
+        verify(likedByMeIndex).addPostLike(10L, 1L);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 - 이미 누른 경우 예외 없이 변경 없음으로 응답")
+    void likePostAlreadyLiked() {
+        // Given
+        when(likeRepository.insertPostLike(anyLong(), eq(1L), eq(10L))).thenReturn(0);
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(2L));
+
+        // When
+        LikeResponseDto responseDto = likeService.likePost(10L);
+
+        // Then
+        assertThat(responseDto.isLiked()).isTrue();
+        assertThat(responseDto.isChanged()).isFalse();
+        verifyNoInteractions(likeCountAccumulator);
+    }
+
+    @Test
+    @DisplayName("좋아요 - 본인 게시글이면 예외")
+    void likeOwnPost() {
+        // Given
+        when(likeRepository.insertPostLike(anyLong(), eq(1L), eq(10L))).thenReturn(0);
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(1L));
+
+        // When & Then
+        assertThatThrownBy(() -> likeService.likePost(10L))
+                .isInstanceOf(CustomException.class)
+                .extracting("statusEnum")
+                .isEqualTo(ErrorEnum.CANNOT_LIKE_OWN_POST);
+    }
+
+    @Test
+    @DisplayName("토글 - 지운 행이 있으면 좋아요 취소")
+    void toggleRemovesExistingLike() {
+        // Given
+        when(likeRepository.deletePostLike(1L, 10L)).thenReturn(1);
+
+        // When
+        LikeResponseDto responseDto = likeService.togglePostLike(10L);
+
+        // Then
+        assertThat(responseDto.isLiked()).isFalse();
+        verify(likeRepository, never()).insertPostLike(anyLong(), anyLong(), anyLong());
+        verify(likeCountAccumulator).addPostLike(10L, -1);
+    }
+
+    @Test
+    @DisplayName("토글 - 동시에 다른 요청이 먼저 좋아요를 INSERT 했으면 변경 없음으로 응답")
+    void toggleLosesConcurrentInsert() {
+        // Given
+        when(likeRepository.deletePostLike(1L, 10L)).thenReturn(0);
+        when(likeRepository.insertPostLike(anyLong(), eq(1L), eq(10L))).thenReturn(0);
+        when(postRepository.findUserIdById(10L)).thenReturn(Optional.of(2L));
+
+        // When
+        LikeResponseDto responseDto = likeService.togglePostLike(10L);
+
+        // Then
+        assertThat(responseDto.isLiked()).isTrue();
+        assertThat(responseDto.isChanged()).isFalse();
+        assertThat(responseDto.getMsg()).isEqualTo("이미 좋아요를 누른 게시물입니다.");
+        verifyNoInteractions(likeCountAccumulator);
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.mvm.service;
+
+import com.sparta.mvm.cache.LikedByMeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class SoftDeletePurgerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LikedByMeIndex likedByMeIndex = mock(LikedByMeIndex.class);
+    private final List<String> executed = new ArrayList<>();
+    private int postLikesLeft = 3;
+
+    @BeforeEach
+    void setUp() {
+        // 삭제 표시된 게시글 1번 : 댓글 10, 11번과 게시글 좋아요 3개
+        when(jdbcTemplate.queryForList(startsWith("select id from posts"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForList(startsWith("select id from comments where post_id"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(10L, 11L), List.of());
+        when(jdbcTemplate.queryForList(startsWith("select id from comments where deleted_at"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            executed.add(sql);
+            if (sql.startsWith("delete from likes where post_id")) {
+                int deleted = Math.min(postLikesLeft, 2);
+                postLikesLeft -= deleted;
+                return deleted;
+            }
+            if (sql.startsWith("delete from comments where id in")) {
+                return 2;
+            }
+            return sql.startsWith("delete from posts") ? 1 : 0;
+        });
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 → 댓글 → 게시글 좋아요 → 게시글 순서로 chunk 단위 삭제")
+    void purgesPostWithDependents() {
+        // Given
+        SoftDeletePurger purger = new SoftDeletePurger(jdbcTemplate, likedByMeIndex, 2, 20);
+
+        // When
+        purger.purge();
+
+        // Then
+        assertThat(executed).containsExactly(
+                "delete from likes where comment_id in (?, ?) limit ?",
+                "delete from comments where id in (?, ?)",
+                "delete from likes where post_id = ? limit ?",
+                "delete from likes where post_id = ? limit ?",
+                "delete from posts where id = ? and deleted_at is not null");
+        assertThat(purger.getPurgedLikeCount()).isEqualTo(3);
+        verify(likedByMeIndex).removeComment(10L);
+        verify(likedByMeIndex).removeComment(11L);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에서 보낼 DELETE 수를 넘으면 멈추고 다음 실행에서 이어서 삭제")
+    void stopsWhenBudgetExhausted() {
+        // Given
+        SoftDeletePurger purger = new SoftDeletePurger(jdbcTemplate, likedByMeIndex, 2, 3);
+
+        // When
+        purger.purge();
+
+        // Then
+        assertThat(executed).hasSize(3);
+        assertThat(executed).noneMatch(sql -> sql.startsWith("delete from posts"));
+    }
+}
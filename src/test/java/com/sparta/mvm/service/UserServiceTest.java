@@ -1,12 +1,16 @@
 package com.sparta.mvm.service;
 
+import com.sparta.mvm.cache.UserCache;
+import com.sparta.mvm.dto.ResignDto;
 import com.sparta.mvm.dto.SignupRequestDto;
 import com.sparta.mvm.dto.SignupResponseDto;
 import com.sparta.mvm.entity.User;
 import com.sparta.mvm.entity.UserStatusEnum;
 import com.sparta.mvm.exception.CustomException;
 import com.sparta.mvm.repository.UserRepository;
-import com.sparta.mvm.jwt.JwtUtil;
+import com.sparta.mvm.security.PasswordHasher;
+import com.sparta.mvm.security.RefreshTokenStore;
+import com.sparta.mvm.security.TokenDenyList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +18,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import static com.sparta.mvm.exception.ErrorEnum.BAD_DUPLICATE;
+import static com.sparta.mvm.exception.ErrorEnum.BAD_PASSWORD;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -30,52 +43,135 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Executor requestExecutor;
 
     @InjectMocks
     private UserService userService;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
-        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "encodedPassword");
+        // 해시 이후 작업은 호출한 스레드에서 바로 실행하고, 트랜잭션은 콜백만 실행
+        lenient().doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(requestExecutor).execute(any());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 
-    @Test
-    @DisplayName("회원 가입 - 정상적인 경우")
-    void SignupSuccess() {
-        // Given
+    private SignupRequestDto signupRequest() {
         SignupRequestDto requestDto = new SignupRequestDto();
         requestDto.setUsername("이나영");
         requestDto.setPassword("dlskdud12@");
         requestDto.setName("이나영");
+        return requestDto;
+    }
 
-        User user = new User(requestDto.getUsername(), "encodedPassword", requestDto.getName(), requestDto.getEmail(), requestDto.getLineIntro(), UserStatusEnum.USER_NORMAL);
+    @Test
+    @DisplayName("회원 가입 - 정상적인 경우")
+    void SignupSuccess() {
+        // Given
+        SignupRequestDto requestDto = signupRequest();
         when(userRepository.findByUsername(requestDto.getUsername())).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(passwordHasher.encode(any())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
 
         // When
-        SignupResponseDto responseDto = userService.signup(requestDto);
+        SignupResponseDto responseDto = userService.signup(requestDto).join();
 
         // Then
         assertNotNull(responseDto);
-        assertEquals(user.getUsername(), responseDto.getUsername());
-        assertEquals(user.getName(), responseDto.getName());
+        assertEquals(requestDto.getUsername(), responseDto.getUsername());
+        assertEquals(requestDto.getName(), responseDto.getName());
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(requestExecutor).execute(any());
     }
 
     @Test
     @DisplayName("회원 가입 - 이미 존재하는 사용자일 경우")
     void SignupFail() {
         // Given
-        SignupRequestDto requestDto = new SignupRequestDto();
-        requestDto.setUsername("이나영");
-        requestDto.setPassword("dlskdud12@");
-        requestDto.setName("이나영");
-
+        SignupRequestDto requestDto = signupRequest();
         User existingUser = new User(requestDto.getUsername(), "encodedPassword", requestDto.getName(), requestDto.getEmail(), requestDto.getLineIntro(), UserStatusEnum.USER_NORMAL);
         when(userRepository.findByUsername(requestDto.getUsername())).thenReturn(Optional.of(existingUser));
+        when(passwordHasher.encode(any())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+
+        // When, Then
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.signup(requestDto).join());
+        assertEquals(BAD_DUPLICATE.getMsg(), exception.getCause().getMessage());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("회원 가입 - 동시에 가입해 중복 확인을 통과해도 유니크 키 위반이면 중복으로 처리")
+    void SignupConcurrentDuplicate() {
+        // Given
+        SignupRequestDto requestDto = signupRequest();
+        when(userRepository.findByUsername(requestDto.getUsername())).thenReturn(Optional.empty());
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("uk_metromusic_username"));
+        when(passwordHasher.encode(any())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+
+        // When, Then
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.signup(requestDto).join());
+        assertInstanceOf(CustomException.class, exception.getCause());
+        assertEquals(BAD_DUPLICATE.getMsg(), exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 비밀번호 검증은 트랜잭션 밖에서 하고, 일치하면 탈퇴 처리 후 토큰 무효화")
+    void resignSuccess() {
+        // Given
+        User user = new User("user1", "encodedPassword", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        user.setId(1L);
+        ResignDto resignDto = new ResignDto();
+        ReflectionTestUtils.setField(resignDto, "password", "password");
+        when(userCache.findByUsername("user1")).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", "encodedPassword")).thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        userService.resign(user, resignDto).join();
+
+        // Then
+        assertEquals(UserStatusEnum.USER_RESIGN, user.getUserStatus());
+        verify(tokenDenyList).revokeAll(1L);
+        verify(refreshTokenStore).deleteAll(1L);
+        verify(requestExecutor).execute(any());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 비밀번호가 틀리면 트랜잭션을 열지 않음")
+    void resignBadPassword() {
+        // Given
+        User user = new User("user1", "encodedPassword", "이름", "user1@email.com", "한줄소개", UserStatusEnum.USER_NORMAL);
+        ResignDto resignDto = new ResignDto();
+        ReflectionTestUtils.setField(resignDto, "password", "wrong");
+        when(userCache.findByUsername("user1")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("wrong", "encodedPassword")).thenReturn(CompletableFuture.completedFuture(false));
 
         // When, Then
-        CustomException exception = assertThrows(CustomException.class, () -> userService.signup(requestDto));
-        assertEquals(BAD_DUPLICATE.getMsg(), exception.getMessage());
+        CompletionException exception = assertThrows(CompletionException.class, () -> userService.resign(user, resignDto).join());
+        assertEquals(BAD_PASSWORD.getMsg(), exception.getCause().getMessage());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        assertEquals(UserStatusEnum.USER_NORMAL, user.getUserStatus());
     }
 }
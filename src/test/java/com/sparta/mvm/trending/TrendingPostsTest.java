@@ -0,0 +1,113 @@
+package com.sparta.mvm.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+public class TrendingPostsTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    private final TrendingPosts trendingPosts = new TrendingPosts(mock(JdbcTemplate.class), clock,
+            Duration.ofHours(1), Duration.ofSeconds(5), 10, 1000, 1, 2);
+
+    @DisplayName("반감기가 지나면 점수가 절반")
+    @Test
+    void decaysByHalfLife() {
+        // given
+        trendingPosts.recordLike(1L, 1);
+        trendingPosts.recordLike(1L, 1);
+
+        // when
+        clock.advance(Duration.ofHours(1));
+
+        // then
+        assertThat(trendingPosts.score(1L)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @DisplayName("좋아요 수가 같으면 최근에 받은 게시글이 위")
+    @Test
+    void recentActivityRanksHigher() {
+        // given
+        trendingPosts.recordLike(1L, 1);
+        trendingPosts.recordLike(1L, 1);
+        clock.advance(Duration.ofHours(2));
+        trendingPosts.recordLike(2L, 1);
+        trendingPosts.recordLike(3L, 1);
+        trendingPosts.recordLike(3L, 1);
+
+        // when & then
+        assertThat(trendingPosts.top(10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @DisplayName("댓글 삭제는 작성 시점에 더한 점수만큼 정확히 차감")
+    @Test
+    void commentRemovalCancelsExactly() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault());
+        trendingPosts.recordLike(1L, 1);
+        trendingPosts.recordComment(1L, 1, createdAt);
+        clock.advance(Duration.ofMinutes(30));
+
+        // when
+        trendingPosts.recordComment(1L, -1, createdAt);
+        clock.advance(Duration.ofMinutes(30));
+
+        // then
+        assertThat(trendingPosts.score(1L)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @DisplayName("순위 목록은 refresh-interval 동안 재사용")
+    @Test
+    void rankingIsRefreshedPeriodically() {
+        // given
+        trendingPosts.recordLike(1L, 1);
+        assertThat(trendingPosts.top(10)).containsExactly(1L);
+
+        // when
+        trendingPosts.recordLike(2L, 1);
+        trendingPosts.recordLike(2L, 1);
+
+        // then
+        assertThat(trendingPosts.top(10)).containsExactly(1L);
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(trendingPosts.top(10)).containsExactly(2L, 1L);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}